@@ -0,0 +1,18 @@
+package com.boardly.common.dto.kanbanboard;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Setter
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+public class CardCommentPageDTO {
+    private List<CardCommentDTO> comments = new ArrayList<>();
+    private String nextCursor;
+}
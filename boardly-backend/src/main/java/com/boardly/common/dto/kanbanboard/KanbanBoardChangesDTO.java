@@ -0,0 +1,24 @@
+package com.boardly.common.dto.kanbanboard;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+@Setter
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+public class KanbanBoardChangesDTO {
+    private UUID boardId;
+    private long sequence;
+    private boolean resyncRequired;
+    private List<KanbanListDTO> lists = new ArrayList<>();
+    private List<KanbanCardDTO> cards = new ArrayList<>();
+    // Cards of a deleted list are deleted with it
+    private List<UUID> deletedListIds = new ArrayList<>();
+}
@@ -14,5 +14,6 @@ import java.util.UUID;
 @NoArgsConstructor
 public class KanbanBoardDTO {
     private UUID boardId;
+    private long sequence;
     private List<KanbanListDTO> lists;
 }
@@ -2,7 +2,7 @@ package com.boardly.common.dto.kanbanboard;
 
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
-import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -18,8 +18,8 @@ public class KanbanCardCreationRequestDTO {
     @NotBlank(message = "Title cannot be blank")
     private String title;
 
-    @Positive(message = "Position must be a positive integer")
-    private double position;
+    @PositiveOrZero(message = "Index must be zero or a positive integer")
+    private Integer index;
 
     @NotNull
     private UUID listId;
@@ -1,6 +1,7 @@
 package com.boardly.common.dto.kanbanboard;
 
 import com.boardly.data.model.nosql.Checklist;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -19,10 +20,15 @@ public class KanbanCardDTO {
     private UUID cardId;
     private String title;
     private UUID listId;
-    private double position;
+    private String rank;
     private Instant startDate = null;
     private Instant dueDate = null;
     private List<String> labels = new ArrayList<>();
+    @JsonInclude(JsonInclude.Include.NON_NULL)
     private List<Checklist> checklists = new ArrayList<>();
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Integer checklistItemCount;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Integer completedChecklistItemCount;
     private List<UUID> assignedMembers = new ArrayList<>();
 }
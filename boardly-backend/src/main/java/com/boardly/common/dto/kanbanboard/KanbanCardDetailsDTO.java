@@ -19,11 +19,12 @@ public class KanbanCardDetailsDTO {
     private UUID cardId;
     private String title;
     private UUID listId;
-    private double position;
+    private String rank;
     private Instant startDate = null;
     private Instant dueDate = null;
     private List<String> labels = new ArrayList<>();
     private List<Checklist> checklists = new ArrayList<>();
     private List<UUID> assignedMembers = new ArrayList<>();
     private List<CardCommentDTO> comments = new ArrayList<>();
+    private String nextCommentsCursor;
 }
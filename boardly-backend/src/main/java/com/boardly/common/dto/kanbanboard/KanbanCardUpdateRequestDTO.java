@@ -1,5 +1,6 @@
 package com.boardly.common.dto.kanbanboard;
 
+import jakarta.validation.constraints.PositiveOrZero;
 import lombok.Getter;
 import lombok.Setter;
 
@@ -13,7 +14,8 @@ import java.util.UUID;
 public class KanbanCardUpdateRequestDTO {
     private String title;
     private String description;
-    private Double position;
+    @PositiveOrZero(message = "Index must be zero or a positive integer")
+    private Integer index;
     private UUID listId;
     private Instant startDate;
     private Instant dueDate;
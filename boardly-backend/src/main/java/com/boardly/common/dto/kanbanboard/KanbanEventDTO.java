@@ -0,0 +1,137 @@
+package com.boardly.common.dto.kanbanboard;
+
+import com.boardly.common.enums.KanbanEventType;
+import com.boardly.data.model.nosql.ChecklistItem;
+import com.boardly.data.model.nosql.KanbanCard;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+// Every message on the kanban topics. seq is the board change sequence the write produced (comments have none),
+// so clients can drop events already covered by a /changes sync. Creations carry the new DTO, updates only the
+// fields that changed, deletions nothing. A batch carries the coalesced events of one broadcast window, in order, as
+// its data and has no id or seq of its own.
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class KanbanEventDTO {
+    private KanbanEventType type;
+    private UUID id;
+    private Long seq;
+    private Object data;
+    // Updates touching the same fields of the same card or list supersede each other
+    @JsonIgnore
+    private String stateKey;
+
+    public static KanbanEventDTO listCreated(KanbanListDTO list, long seq) {
+        return new KanbanEventDTO(KanbanEventType.LIST_CREATED, list.getListId(), seq, list, null);
+    }
+
+    public static KanbanEventDTO listUpdated(UUID listId, long seq, String title, String rank) {
+        Map<String, Object> changes = new LinkedHashMap<>();
+        putIfPresent(changes, "title", title);
+        putIfPresent(changes, "rank", rank);
+        return updated(KanbanEventType.LIST_UPDATED, "list:", listId, seq, changes);
+    }
+
+    public static KanbanEventDTO listDeleted(UUID listId, long seq) {
+        return new KanbanEventDTO(KanbanEventType.LIST_DELETED, listId, seq, null, null);
+    }
+
+    public static KanbanEventDTO cardCreated(KanbanCardDTO card, long seq) {
+        return new KanbanEventDTO(KanbanEventType.CARD_CREATED, card.getCardId(), seq, card, null);
+    }
+
+    public static KanbanEventDTO cardUpdated(KanbanCard card, KanbanCardUpdateRequestDTO request) {
+        Map<String, Object> changes = new LinkedHashMap<>();
+        if (request.getTitle() != null) {
+            changes.put("title", card.getTitle());
+        }
+        if (request.getDescription() != null) {
+            changes.put("description", card.getDescription());
+        }
+        if (request.getListId() != null || request.getIndex() != null) {
+            changes.put("listId", card.getListId());
+            changes.put("rank", card.getRank());
+        }
+        if (request.getStartDate() != null) {
+            changes.put("startDate", card.getStartDate());
+        }
+        if (request.getDueDate() != null) {
+            changes.put("dueDate", card.getDueDate());
+        }
+        if (request.getLabels() != null) {
+            changes.put("labels", card.getLabels());
+        }
+        if (request.getAssignedMembers() != null) {
+            changes.put("assignedMembers", card.getAssignedMembers());
+        }
+        return updated(KanbanEventType.CARD_UPDATED, "card:", card.getId(), card.getChangeSeq(), changes);
+    }
+
+    public static KanbanEventDTO checklistCreated(ChecklistDTO checklist, long seq) {
+        return new KanbanEventDTO(KanbanEventType.CHECKLIST_CREATED, checklist.getId(), seq, checklist, null);
+    }
+
+    public static KanbanEventDTO checklistUpdated(UUID checklistId, long seq, String title) {
+        return new KanbanEventDTO(KanbanEventType.CHECKLIST_UPDATED, checklistId, seq, Map.of("title", title), null);
+    }
+
+    public static KanbanEventDTO checklistDeleted(UUID checklistId, long seq) {
+        return new KanbanEventDTO(KanbanEventType.CHECKLIST_DELETED, checklistId, seq, null, null);
+    }
+
+    public static KanbanEventDTO checklistItemCreated(ChecklistItemDTO item, long seq) {
+        return new KanbanEventDTO(KanbanEventType.CHECKLIST_ITEM_CREATED, item.getId(), seq, item, null);
+    }
+
+    public static KanbanEventDTO checklistItemUpdated(ChecklistItem item, long seq, ChecklistItemUpdateRequestDTO request) {
+        Map<String, Object> changes = new LinkedHashMap<>();
+        if (request.getText() != null) {
+            changes.put("text", item.getText());
+        }
+        if (request.getCompleted() != null) {
+            changes.put("completed", item.isCompleted());
+        }
+        return new KanbanEventDTO(KanbanEventType.CHECKLIST_ITEM_UPDATED, item.getId(), seq, changes, null);
+    }
+
+    public static KanbanEventDTO checklistItemDeleted(UUID itemId, long seq) {
+        return new KanbanEventDTO(KanbanEventType.CHECKLIST_ITEM_DELETED, itemId, seq, null, null);
+    }
+
+    public static KanbanEventDTO commentCreated(CardCommentDTO comment) {
+        return new KanbanEventDTO(KanbanEventType.COMMENT_CREATED, comment.getId(), null, comment, null);
+    }
+
+    public static KanbanEventDTO commentUpdated(CardCommentDTO comment) {
+        Map<String, Object> changes = new LinkedHashMap<>();
+        changes.put("comment", comment.getComment());
+        changes.put("edited", comment.isEdited());
+        return new KanbanEventDTO(KanbanEventType.COMMENT_UPDATED, comment.getId(), null, changes, null);
+    }
+
+    public static KanbanEventDTO commentDeleted(UUID commentId) {
+        return new KanbanEventDTO(KanbanEventType.COMMENT_DELETED, commentId, null, null, null);
+    }
+
+    public static KanbanEventDTO boardReranked(UUID boardId, long seq) {
+        return new KanbanEventDTO(KanbanEventType.BOARD_RERANKED, boardId, seq, null, null);
+    }
+
+    private static KanbanEventDTO updated(KanbanEventType type, String keyPrefix, UUID id, long seq, Map<String, Object> changes) {
+        return new KanbanEventDTO(type, id, seq, changes, keyPrefix + id + ':' + String.join(",", changes.keySet()));
+    }
+
+    private static void putIfPresent(Map<String, Object> changes, String field, Object value) {
+        if (value != null) {
+            changes.put(field, value);
+        }
+    }
+}
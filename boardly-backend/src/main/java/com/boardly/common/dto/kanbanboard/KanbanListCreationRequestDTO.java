@@ -1,7 +1,7 @@
 package com.boardly.common.dto.kanbanboard;
 
 import jakarta.validation.constraints.NotBlank;
-import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.Setter;
@@ -13,6 +13,6 @@ public class KanbanListCreationRequestDTO {
     @NotBlank(message = "Title is required")
     private String title;
 
-    @Positive(message = "Position must be a positive number")
-    private double position;
+    @PositiveOrZero(message = "Index must be zero or a positive integer")
+    private Integer index;
 }
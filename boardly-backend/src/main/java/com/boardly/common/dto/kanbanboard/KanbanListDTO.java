@@ -17,6 +17,6 @@ import java.util.UUID;
 public class KanbanListDTO {
     private UUID listId;
     private String title;
-    private double position;
+    private String rank;
     private List<KanbanCardDTO> cards;
 }
@@ -1,6 +1,6 @@
 package com.boardly.common.dto.kanbanboard;
 
-import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.Setter;
@@ -11,6 +11,6 @@ import lombok.Setter;
 public class KanbanListUpdateRequestDTO {
     private String title;
 
-    @Positive(message = "Position must be a positive integer")
-    private Double position;
+    @PositiveOrZero(message = "Index must be zero or a positive integer")
+    private Integer index;
 }
@@ -0,0 +1,29 @@
+package com.boardly.common.enums;
+
+import com.fasterxml.jackson.annotation.JsonValue;
+
+public enum KanbanEventType {
+    LIST_CREATED("list_created"),
+    LIST_UPDATED("list_updated"),
+    LIST_DELETED("list_deleted"),
+    CARD_CREATED("card_created"),
+    CARD_UPDATED("card_updated"),
+    CHECKLIST_CREATED("checklist_created"),
+    CHECKLIST_UPDATED("checklist_updated"),
+    CHECKLIST_DELETED("checklist_deleted"),
+    CHECKLIST_ITEM_CREATED("checklist_item_created"),
+    CHECKLIST_ITEM_UPDATED("checklist_item_updated"),
+    CHECKLIST_ITEM_DELETED("checklist_item_deleted"),
+    COMMENT_CREATED("comment_created"),
+    COMMENT_UPDATED("comment_updated"),
+    COMMENT_DELETED("comment_deleted"),
+    BOARD_RERANKED("board_reranked"),
+    BATCH("batch");
+
+    KanbanEventType(String value) {
+        this.value = value;
+    }
+
+    @JsonValue
+    private final String value;
+}
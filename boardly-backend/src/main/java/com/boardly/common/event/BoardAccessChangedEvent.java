@@ -0,0 +1,22 @@
+package com.boardly.common.event;
+
+import java.util.UUID;
+
+// A null component widens the eviction: no userId means every user, no boardId means every board of the workspace.
+public record BoardAccessChangedEvent(UUID workspaceId, UUID boardId, UUID userId) {
+    public static BoardAccessChangedEvent board(UUID boardId) {
+        return new BoardAccessChangedEvent(null, boardId, null);
+    }
+
+    public static BoardAccessChangedEvent boardMember(UUID boardId, UUID userId) {
+        return new BoardAccessChangedEvent(null, boardId, userId);
+    }
+
+    public static BoardAccessChangedEvent workspace(UUID workspaceId) {
+        return new BoardAccessChangedEvent(workspaceId, null, null);
+    }
+
+    public static BoardAccessChangedEvent workspaceMember(UUID workspaceId, UUID userId) {
+        return new BoardAccessChangedEvent(workspaceId, null, userId);
+    }
+}
@@ -0,0 +1,78 @@
+package com.boardly.common.util;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// Base-36 fractional ranks compared lexicographically. Generated ranks never end in '0',
+// which guarantees there is always room for another rank before any existing one.
+public final class LexoRank {
+    private static final String DIGITS = "0123456789abcdefghijklmnopqrstuvwxyz";
+    private static final int BASE = DIGITS.length();
+
+    private LexoRank() {
+    }
+
+    // A rank strictly between previous and next; null means the start or the end of the sequence. Equal bounds (a tie
+    // left by concurrent inserts) get a rank just after the tie; callers re-space the sequence to separate it again.
+    public static String between(String previous, String next) {
+        String low = previous == null ? "" : previous;
+        String high = next;
+        if (high != null && low.equals(high)) {
+            high = low + DIGITS.charAt(1);
+        }
+        if (high != null && low.compareTo(high) >= 0) {
+            throw new IllegalArgumentException("Rank " + previous + " must sort before " + next);
+        }
+
+        StringBuilder rank = new StringBuilder();
+        for (int i = 0; ; i++) {
+            int lowDigit = i < low.length() ? digit(low.charAt(i)) : 0;
+            int highDigit = high != null && i < high.length() ? digit(high.charAt(i)) : BASE;
+            if (lowDigit == highDigit) {
+                rank.append(DIGITS.charAt(lowDigit));
+                continue;
+            }
+            int middle = (lowDigit + highDigit) / 2;
+            if (middle > lowDigit) {
+                return rank.append(DIGITS.charAt(middle)).toString();
+            }
+            // Adjacent digits: keep the lower one; anything longer now sorts below next
+            rank.append(DIGITS.charAt(lowDigit));
+            high = null;
+        }
+    }
+
+    // Count evenly spaced ranks, used when rewriting a whole sequence
+    public static List<String> spread(int count) {
+        int width = 1;
+        long span = BASE;
+        while (span < (long) (count + 1) * BASE) {
+            width++;
+            span *= BASE;
+        }
+
+        List<String> ranks = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            long value = span / (count + 1) * i;
+            char[] chars = new char[width];
+            for (int position = width - 1; position >= 0; position--) {
+                chars[position] = DIGITS.charAt((int) (value % BASE));
+                value /= BASE;
+            }
+            int length = width;
+            while (length > 1 && chars[length - 1] == '0') {
+                length--;
+            }
+            ranks.add(new String(chars, 0, length));
+        }
+        return ranks;
+    }
+
+    private static int digit(char c) {
+        int digit = DIGITS.indexOf(c);
+        if (digit < 0) {
+            throw new IllegalArgumentException("Invalid rank character: " + c);
+        }
+        return digit;
+    }
+}
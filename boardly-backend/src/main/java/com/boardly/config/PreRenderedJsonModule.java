@@ -0,0 +1,203 @@
+package com.boardly.config;
+
+import com.boardly.common.dto.kanbanboard.KanbanBoardDTO;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.databind.*;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.BeanSerializerModifier;
+import com.fasterxml.jackson.databind.ser.ContextualSerializer;
+import com.fasterxml.jackson.databind.ser.ResolvableSerializer;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+// Lets a REST response reuse the bytes a Kanban DTO was already serialized to for its WebSocket broadcast in the same request.
+@Component
+public class PreRenderedJsonModule extends SimpleModule {
+    private static final String ATTRIBUTE = PreRenderedJsonModule.class.getName() + ".rendered";
+    private static final String KANBAN_DTO_PACKAGE = KanbanBoardDTO.class.getPackageName();
+
+    public PreRenderedJsonModule() {
+        super("PreRenderedJsonModule");
+        setSerializerModifier(new BeanSerializerModifier() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public JsonSerializer<?> modifySerializer(SerializationConfig config, BeanDescription beanDesc, JsonSerializer<?> serializer) {
+                if (!beanDesc.getBeanClass().getPackageName().equals(KANBAN_DTO_PACKAGE)) {
+                    return serializer;
+                }
+                return new PreRenderedSerializer((JsonSerializer<Object>) serializer);
+            }
+        });
+    }
+
+    public static void remember(Object value, byte[] json) {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null || !value.getClass().getPackageName().equals(KANBAN_DTO_PACKAGE)) {
+            return;
+        }
+        rendered(attributes, true).put(value, json);
+    }
+
+    private static byte[] lookup(Object value) {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return null;
+        }
+        Map<Object, byte[]> rendered = rendered(attributes, false);
+        return rendered == null ? null : rendered.get(value);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<Object, byte[]> rendered(RequestAttributes attributes, boolean create) {
+        Map<Object, byte[]> rendered = (Map<Object, byte[]>) attributes.getAttribute(ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (rendered == null && create) {
+            rendered = new IdentityHashMap<>();
+            attributes.setAttribute(ATTRIBUTE, rendered, RequestAttributes.SCOPE_REQUEST);
+        }
+        return rendered;
+    }
+
+    private static class PreRenderedSerializer extends JsonSerializer<Object> implements ResolvableSerializer, ContextualSerializer {
+        private final JsonSerializer<Object> delegate;
+
+        PreRenderedSerializer(JsonSerializer<Object> delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void serialize(Object value, JsonGenerator gen, SerializerProvider serializers) throws IOException {
+            byte[] json = lookup(value);
+            if (json != null) {
+                gen.writeRawValue(new RawJson(json));
+                return;
+            }
+            delegate.serialize(value, gen, serializers);
+        }
+
+        @Override
+        public void serializeWithType(Object value, JsonGenerator gen, SerializerProvider serializers, TypeSerializer typeSer) throws IOException {
+            delegate.serializeWithType(value, gen, serializers, typeSer);
+        }
+
+        @Override
+        public boolean isEmpty(SerializerProvider provider, Object value) {
+            return delegate.isEmpty(provider, value);
+        }
+
+        @Override
+        public Class<Object> handledType() {
+            return delegate.handledType();
+        }
+
+        @Override
+        public void resolve(SerializerProvider provider) throws JsonMappingException {
+            if (delegate instanceof ResolvableSerializer resolvable) {
+                resolvable.resolve(provider);
+            }
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public JsonSerializer<?> createContextual(SerializerProvider prov, BeanProperty property) throws JsonMappingException {
+            if (delegate instanceof ContextualSerializer contextual) {
+                JsonSerializer<?> contextualized = contextual.createContextual(prov, property);
+                if (contextualized != delegate) {
+                    return new PreRenderedSerializer((JsonSerializer<Object>) contextualized);
+                }
+            }
+            return this;
+        }
+    }
+
+    // Raw UTF-8 JSON that the byte-oriented generator copies straight into its buffer.
+    private record RawJson(byte[] json) implements SerializableString {
+        @Override
+        public String getValue() {
+            return new String(json, StandardCharsets.UTF_8);
+        }
+
+        @Override
+        public int charLength() {
+            return getValue().length();
+        }
+
+        @Override
+        public char[] asQuotedChars() {
+            return getValue().toCharArray();
+        }
+
+        @Override
+        public byte[] asUnquotedUTF8() {
+            return json;
+        }
+
+        @Override
+        public byte[] asQuotedUTF8() {
+            return json;
+        }
+
+        @Override
+        public int appendQuotedUTF8(byte[] buffer, int offset) {
+            return appendUnquotedUTF8(buffer, offset);
+        }
+
+        @Override
+        public int appendQuoted(char[] buffer, int offset) {
+            return appendUnquoted(buffer, offset);
+        }
+
+        @Override
+        public int appendUnquotedUTF8(byte[] buffer, int offset) {
+            if (offset + json.length > buffer.length) {
+                return -1;
+            }
+            System.arraycopy(json, 0, buffer, offset, json.length);
+            return json.length;
+        }
+
+        @Override
+        public int appendUnquoted(char[] buffer, int offset) {
+            String value = getValue();
+            if (offset + value.length() > buffer.length) {
+                return -1;
+            }
+            value.getChars(0, value.length(), buffer, offset);
+            return value.length();
+        }
+
+        @Override
+        public int writeQuotedUTF8(OutputStream out) throws IOException {
+            return writeUnquotedUTF8(out);
+        }
+
+        @Override
+        public int writeUnquotedUTF8(OutputStream out) throws IOException {
+            out.write(json);
+            return json.length;
+        }
+
+        @Override
+        public int putQuotedUTF8(ByteBuffer buffer) {
+            return putUnquotedUTF8(buffer);
+        }
+
+        @Override
+        public int putUnquotedUTF8(ByteBuffer buffer) {
+            if (buffer.remaining() < json.length) {
+                return -1;
+            }
+            buffer.put(json);
+            return json.length;
+        }
+    }
+}
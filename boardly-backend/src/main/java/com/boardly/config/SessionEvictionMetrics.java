@@ -0,0 +1,35 @@
+package com.boardly.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.WebSocketHandlerDecorator;
+import org.springframework.web.socket.handler.WebSocketHandlerDecoratorFactory;
+
+// Sessions that exceed the send time or buffer limit are closed by Spring with SESSION_NOT_RELIABLE.
+@Component
+public class SessionEvictionMetrics implements WebSocketHandlerDecoratorFactory {
+    private final Counter evicted;
+
+    public SessionEvictionMetrics(MeterRegistry meterRegistry) {
+        this.evicted = Counter.builder("websocket.sessions.evicted")
+                .description("WebSocket sessions closed for exceeding the outbound send limits")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public WebSocketHandler decorate(WebSocketHandler handler) {
+        return new WebSocketHandlerDecorator(handler) {
+            @Override
+            public void afterConnectionClosed(WebSocketSession session, CloseStatus closeStatus) throws Exception {
+                if (CloseStatus.SESSION_NOT_RELIABLE.equalsCode(closeStatus)) {
+                    evicted.increment();
+                }
+                super.afterConnectionClosed(session, closeStatus);
+            }
+        };
+    }
+}
@@ -2,12 +2,18 @@ package com.boardly.config;
 
 import com.boardly.security.WebSocketAuthenticationInterceptor;
 import com.boardly.security.WebSocketAuthorizationInterceptor;
+import com.boardly.service.broadcast.OutboundConflationInterceptor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.util.unit.DataSize;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
+
+import java.time.Duration;
 
 @Configuration
 @EnableWebSocketMessageBroker
@@ -15,10 +21,23 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
     private final WebSocketAuthenticationInterceptor authenticationInterceptor;
     private final WebSocketAuthorizationInterceptor authorizationInterceptor;
+    private final OutboundConflationInterceptor outboundConflationInterceptor;
+    private final SessionEvictionMetrics sessionEvictionMetrics;
+    private final Duration sendTimeLimit;
+    private final DataSize sendBufferSizeLimit;
 
-    public WebSocketConfig(WebSocketAuthenticationInterceptor authenticationInterceptor, WebSocketAuthorizationInterceptor authorizationInterceptor) {
+    public WebSocketConfig(WebSocketAuthenticationInterceptor authenticationInterceptor,
+                           WebSocketAuthorizationInterceptor authorizationInterceptor,
+                           OutboundConflationInterceptor outboundConflationInterceptor,
+                           SessionEvictionMetrics sessionEvictionMetrics,
+                           @Value("${app.websocket.transport.send-time-limit:10s}") Duration sendTimeLimit,
+                           @Value("${app.websocket.transport.send-buffer-size-limit:256KB}") DataSize sendBufferSizeLimit) {
         this.authenticationInterceptor = authenticationInterceptor;
         this.authorizationInterceptor = authorizationInterceptor;
+        this.outboundConflationInterceptor = outboundConflationInterceptor;
+        this.sessionEvictionMetrics = sessionEvictionMetrics;
+        this.sendTimeLimit = sendTimeLimit;
+        this.sendBufferSizeLimit = sendBufferSizeLimit;
     }
 
     @Override
@@ -36,4 +55,17 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
     public void configureClientInboundChannel(ChannelRegistration registration) {
         registration.interceptors(authenticationInterceptor, authorizationInterceptor);
     }
+
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        registration.interceptors(outboundConflationInterceptor);
+    }
+
+    @Override
+    public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+        registration.setSendTimeLimit((int) sendTimeLimit.toMillis())
+                .setSendBufferSizeLimit((int) sendBufferSizeLimit.toBytes())
+                .addDecoratorFactory(outboundConflationInterceptor)
+                .addDecoratorFactory(sessionEvictionMetrics);
+    }
 }
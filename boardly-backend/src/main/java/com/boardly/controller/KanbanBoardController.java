@@ -43,11 +43,32 @@ public class KanbanBoardController {
     )
     @GetMapping("/{boardId}")
     @PreAuthorize("@authorizationSecurityService.canViewBoard(#boardId)")
-    public ResponseEntity<ApiSuccessResponseDTO<KanbanBoardDTO>> getKanbanBoard(@PathVariable("boardId") UUID boardId) {
-        KanbanBoardDTO kanbanBoardDTO = kanbanBoardService.getBoard(boardId);
+    public ResponseEntity<ApiSuccessResponseDTO<KanbanBoardDTO>> getKanbanBoard(@PathVariable("boardId") UUID boardId, @RequestParam(value = "summary", defaultValue = "false") boolean summary) {
+        KanbanBoardDTO kanbanBoardDTO = kanbanBoardService.getBoard(boardId, summary);
         return ResponseEntity.status(HttpStatus.OK).body(new ApiSuccessResponseDTO<>(HttpStatus.OK.value(), Instant.now(), "Kanban Board retrieved successfully", kanbanBoardDTO));
     }
 
+    @Operation(
+            description = "Get kanban board changes endpoint",
+            summary = "Get the lists and cards changed on a kanban board since a sequence",
+            responses = {
+                    @ApiResponse(
+                            description = "Success",
+                            responseCode = "200"
+                    ),
+                    @ApiResponse(
+                            description = "Unauthorized / Invalid Token",
+                            responseCode = "403"
+                    )
+            }
+    )
+    @GetMapping("/{boardId}/changes")
+    @PreAuthorize("@authorizationSecurityService.canViewBoard(#boardId)")
+    public ResponseEntity<ApiSuccessResponseDTO<KanbanBoardChangesDTO>> getKanbanBoardChanges(@PathVariable("boardId") UUID boardId, @RequestParam("since") long since) {
+        KanbanBoardChangesDTO kanbanBoardChangesDTO = kanbanBoardService.getChanges(boardId, since);
+        return ResponseEntity.status(HttpStatus.OK).body(new ApiSuccessResponseDTO<>(HttpStatus.OK.value(), Instant.now(), "Kanban Board changes retrieved successfully", kanbanBoardChangesDTO));
+    }
+
     @Operation(
             description = "Create kanban list endpoint",
             summary = "Create a kanban list",
@@ -300,6 +321,27 @@ public class KanbanBoardController {
         return ResponseEntity.status(HttpStatus.OK).body(new ApiSuccessResponseDTO<>(HttpStatus.OK.value(), Instant.now(), "Checklist item updated successfully"));
     }
 
+    @Operation(
+            description = "Get card comments endpoint",
+            summary = "Get a page of comments on a card",
+            responses = {
+                    @ApiResponse(
+                            description = "Success",
+                            responseCode = "200"
+                    ),
+                    @ApiResponse(
+                            description = "Unauthorized / Invalid Token",
+                            responseCode = "403"
+                    )
+            }
+    )
+    @GetMapping("/{boardId}/card/{cardId}/comments")
+    @PreAuthorize("@authorizationSecurityService.canViewBoard(#boardId)")
+    public ResponseEntity<ApiSuccessResponseDTO<CardCommentPageDTO>> getComments(@PathVariable("boardId") UUID boardId, @PathVariable("cardId") UUID cardId, @RequestParam(value = "cursor", required = false) String cursor) {
+        CardCommentPageDTO cardCommentPageDTO = kanbanBoardService.getComments(boardId, cardId, cursor);
+        return ResponseEntity.status(HttpStatus.OK).body(new ApiSuccessResponseDTO<>(HttpStatus.OK.value(), Instant.now(), "Comments retrieved successfully", cardCommentPageDTO));
+    }
+
     @Operation(
             description = "Add comment endpoint",
             summary = "Add a comment to a card",
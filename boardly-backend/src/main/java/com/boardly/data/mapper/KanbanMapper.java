@@ -14,18 +14,21 @@ public interface KanbanMapper {
     KanbanCardDTO toDTO(KanbanCard kanbanCard);
 
     @Mapping(target = "cardId", source = "id")
+    @Mapping(target = "comments", ignore = true)
+    @Mapping(target = "nextCommentsCursor", ignore = true)
     KanbanCardDetailsDTO toDetailsDTO(KanbanCard kanbanCard);
 
     @Mapping(target = "listId", source = "id")
     @Mapping(target = "cards", ignore = true)
     KanbanListDTO toDTO(KanbanList kanbanList);
 
+    @Mapping(target = "sequence", ignore = true)
     KanbanBoardDTO toDTO(KanbanBoard kanbanBoard);
 
     @Mapping(target = "comment", source = "content")
     @Mapping(target = "date", source = "createdAt")
     @Mapping(target = "author", ignore = true)
-    CardCommentDTO toDTO(Comment comment);
+    CardCommentDTO toDTO(CardComment comment);
 
     ChecklistDTO toDTO(Checklist checklist);
 
@@ -0,0 +1,49 @@
+package com.boardly.data.model.nosql;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+@Setter
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@Document(collection = "board_sequences")
+public class BoardSequence {
+    @Id
+    private UUID boardId;
+
+    private long seq;
+
+    // Highest sequence whose list tombstones have been pruned; older cursors must resync
+    private long prunedThrough;
+
+    // Sequences handed out whose writes have not finished, each with the server time it was taken. A writer that dies
+    // before completing its entry only holds the cursor back until the entry's lease runs out.
+    private List<InFlight> inFlight;
+
+    // The highest sequence whose write, and every write before it, has landed or failed, so a cursor at it skips
+    // nothing. Expects inFlight to hold only unexpired entries, as BoardSequenceRepository.findLive loads it.
+    public long settledSeq() {
+        if (inFlight == null || inFlight.isEmpty()) {
+            return seq;
+        }
+        return inFlight.stream().mapToLong(InFlight::getSeq).min().getAsLong() - 1;
+    }
+
+    @Setter
+    @Getter
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class InFlight {
+        private long seq;
+        private Instant since;
+    }
+}
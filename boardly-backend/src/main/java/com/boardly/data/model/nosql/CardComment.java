@@ -0,0 +1,33 @@
+package com.boardly.data.model.nosql;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.Instant;
+import java.util.UUID;
+
+@Setter
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@Document(collection = "card_comments")
+@CompoundIndex(def = "{'cardId': 1, 'createdAt': 1, '_id': 1}")
+public class CardComment {
+    @Id
+    private UUID id;
+
+    @Indexed
+    private UUID boardId;
+
+    private UUID cardId;
+    private UUID authorId;
+    private String content;
+    private boolean edited = false;
+    private Instant createdAt;
+}
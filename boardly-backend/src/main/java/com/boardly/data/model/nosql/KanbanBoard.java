@@ -5,6 +5,7 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Version;
 import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 
@@ -19,10 +20,16 @@ import java.util.UUID;
 @Document(collection = "boards")
 public class KanbanBoard {
     @Id
-    private String Id;
+    private String id;
 
     @Indexed
     private UUID boardId;
 
     private List<KanbanList> lists = new ArrayList<>();
+
+    // Null on boards created before lists and cards were ordered by rank
+    private Boolean ranked;
+
+    @Version
+    private Long version;
 }
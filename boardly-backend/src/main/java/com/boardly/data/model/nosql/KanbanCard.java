@@ -7,6 +7,7 @@ import lombok.Setter;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.annotation.Version;
 import org.springframework.data.mongodb.core.index.CompoundIndex;
 import org.springframework.data.mongodb.core.index.CompoundIndexes;
 import org.springframework.data.mongodb.core.index.Indexed;
@@ -21,12 +22,13 @@ import java.util.*;
 @NoArgsConstructor
 @Document(collection = "cards")
 @CompoundIndexes({
-        @CompoundIndex(def = "{'boardId': 1, 'listId': 1, 'position': 1}"),
-        @CompoundIndex(def = "{'assignedMembers': 1}")
+        @CompoundIndex(def = "{'boardId': 1, 'listId': 1, 'rank': 1, '_id': 1}"),
+        @CompoundIndex(def = "{'assignedMembers': 1}"),
+        @CompoundIndex(def = "{'boardId': 1, 'changeSeq': 1}")
 })
 public class KanbanCard {
     @Id
-    private UUID Id;
+    private UUID id;
 
     @Indexed
     private UUID boardId;
@@ -37,6 +39,8 @@ public class KanbanCard {
     private String title;
     private String description = "";
 
+    private String rank;
+    // Pre-rank ordering, only read for a legacy board until it is first ranked
     private double position;
 
     private Instant startDate = null;
@@ -49,9 +53,17 @@ public class KanbanCard {
     private List<Checklist> checklists = new ArrayList<>();
     private List<Comment> comments = new ArrayList<>();
 
+    private Integer checklistItemCount;
+    private Integer completedChecklistItemCount;
+
+    private long changeSeq;
+
     @CreatedDate
     private Instant createdAt;
 
     @LastModifiedDate
     private Instant updatedAt;
+
+    @Version
+    private Long version;
 }
@@ -10,5 +10,8 @@ import java.util.UUID;
 public class KanbanList {
     private UUID Id;
     private String title = "";
+    private String rank;
+    // Pre-rank ordering, only read for a legacy board until it is first ranked
     private double position;
+    private long changeSeq;
 }
@@ -0,0 +1,29 @@
+package com.boardly.data.model.nosql;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.Instant;
+import java.util.UUID;
+
+@Setter
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@Document(collection = "list_tombstones")
+@CompoundIndex(def = "{'boardId': 1, 'changeSeq': 1}")
+public class KanbanListTombstone {
+    @Id
+    private UUID listId;
+
+    private UUID boardId;
+
+    private long changeSeq;
+
+    private Instant deletedAt;
+}
@@ -0,0 +1,49 @@
+package com.boardly.data.model.sql.notification;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.Instant;
+import java.util.UUID;
+
+@Entity
+@Table(name = "notification_outbox")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OutboxEvent {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private String destination;
+
+    private UUID recipientId;
+
+    @Column(nullable = false)
+    private byte[] payload;
+
+    private boolean text;
+
+    private String stateKey;
+
+    @CreationTimestamp
+    private Instant createdAt;
+
+    // Deliveries handed out so far; a row that reaches the limit is left in the table as a dead letter
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private int attempts;
+
+    // A claimed row is not handed out again until its lease runs out; null means it was never claimed
+    private Instant availableAt;
+
+    public void claim(Instant leaseUntil) {
+        attempts++;
+        availableAt = leaseUntil;
+    }
+}
@@ -2,6 +2,7 @@ package com.boardly.data.repository;
 
 import com.boardly.common.enums.BoardRole;
 import com.boardly.data.model.sql.board.BoardMember;
+import com.boardly.security.model.BoardAccess;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
@@ -22,6 +23,19 @@ public interface BoardMemberRepository extends JpaRepository<BoardMember, UUID>
             """)
     Optional<BoardRole> findRoleByBoardIdAndUserId(@Param("boardId") UUID boardId, @Param("userId") UUID userId);
 
+    @Query("""
+                SELECT new com.boardly.security.model.BoardAccess(
+                    b.Id, w.Id, b.boardVisibility, wm.role, bm.role,
+                    w.boardCreationSettings.privateBoardCreation,
+                    w.boardCreationSettings.workspaceVisibleBoardCreation)
+                FROM Board b
+                JOIN b.workspace w
+                LEFT JOIN WorkspaceMember wm ON wm.workspace = w AND wm.user.Id = :userId
+                LEFT JOIN BoardMember bm ON bm.board = b AND bm.user.Id = :userId
+                WHERE b.Id = :boardId
+            """)
+    Optional<BoardAccess> resolveBoardAccess(@Param("boardId") UUID boardId, @Param("userId") UUID userId);
+
     boolean existsByBoard_IdAndUser_Id(UUID boardId, UUID userId);
 
     Optional<BoardMember> findByBoard_IdAndUser_Id(UUID boardId, UUID userId);
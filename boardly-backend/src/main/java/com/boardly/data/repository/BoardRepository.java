@@ -69,7 +69,5 @@ public interface BoardRepository extends JpaRepository<Board,UUID> {
         )
     """)
     List<BoardDTO> findAllViewableBoardDTOsByUserAndWorkspace(@Param("workspaceId") UUID workspaceId, @Param("userId") UUID userId);
-}
-
-
 
+}
@@ -0,0 +1,11 @@
+package com.boardly.data.repository;
+
+import com.boardly.data.model.nosql.BoardSequence;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.UUID;
+
+@Repository
+public interface BoardSequenceRepository extends MongoRepository<BoardSequence, UUID>, BoardSequenceRepositoryCustom {
+}
@@ -0,0 +1,17 @@
+package com.boardly.data.repository;
+
+import com.boardly.data.model.nosql.BoardSequence;
+
+import java.util.Optional;
+import java.util.UUID;
+
+public interface BoardSequenceRepositoryCustom {
+    long next(UUID boardId);
+
+    // Every sequence from next must be completed once its write has landed or failed
+    void complete(UUID boardId, long seq);
+
+    Optional<BoardSequence> findLive(UUID boardId);
+
+    void advancePrunedThrough(UUID boardId, long seq);
+}
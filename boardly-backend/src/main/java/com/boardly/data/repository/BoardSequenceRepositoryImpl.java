@@ -0,0 +1,76 @@
+package com.boardly.data.repository;
+
+import com.boardly.data.model.nosql.BoardSequence;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationUpdate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+// In-flight entries are stamped and expired with the database's clock, so no node's clock decides what has settled
+public class BoardSequenceRepositoryImpl implements BoardSequenceRepositoryCustom {
+    private final MongoTemplate mongoTemplate;
+    private final long writeLeaseMillis;
+
+    public BoardSequenceRepositoryImpl(MongoTemplate mongoTemplate,
+                                       @Value("${kanban.changes.write-lease:1m}") Duration writeLease) {
+        this.mongoTemplate = mongoTemplate;
+        this.writeLeaseMillis = writeLease.toMillis();
+    }
+
+    @Override
+    public long next(UUID boardId) {
+        Document nextSeq = new Document("$add", List.of(new Document("$ifNull", List.of("$seq", 0L)), 1L));
+        Document inFlight = new Document("$concatArrays", List.of(
+                liveInFlight(),
+                List.of(new Document("seq", nextSeq).append("since", "$$NOW"))));
+        AggregationUpdate update = AggregationUpdate.from(List.of(
+                context -> new Document("$set", new Document("seq", nextSeq).append("inFlight", inFlight)),
+                context -> new Document("$unset", "allocatedAt")));
+        BoardSequence sequence = mongoTemplate.findAndModify(
+                boardQuery(boardId),
+                update,
+                FindAndModifyOptions.options().upsert(true).returnNew(true),
+                BoardSequence.class);
+        return sequence.getSeq();
+    }
+
+    @Override
+    public void complete(UUID boardId, long seq) {
+        mongoTemplate.updateFirst(boardQuery(boardId),
+                new Update().pull("inFlight", new Document("seq", new Document("$eq", seq))),
+                BoardSequence.class);
+    }
+
+    @Override
+    public Optional<BoardSequence> findLive(UUID boardId) {
+        Aggregation aggregation = Aggregation.newAggregation(
+                Aggregation.match(where("_id").is(boardId)),
+                context -> new Document("$set", new Document("inFlight", liveInFlight())));
+        return Optional.ofNullable(mongoTemplate.aggregate(aggregation, BoardSequence.class, BoardSequence.class).getUniqueMappedResult());
+    }
+
+    @Override
+    public void advancePrunedThrough(UUID boardId, long seq) {
+        mongoTemplate.upsert(boardQuery(boardId), new Update().max("prunedThrough", seq), BoardSequence.class);
+    }
+
+    private Document liveInFlight() {
+        return new Document("$filter", new Document("input", new Document("$ifNull", List.of("$inFlight", List.of())))
+                .append("cond", new Document("$gt", List.of("$$this.since", new Document("$subtract", List.of("$$NOW", writeLeaseMillis))))));
+    }
+
+    private Query boardQuery(UUID boardId) {
+        return Query.query(where("_id").is(boardId));
+    }
+}
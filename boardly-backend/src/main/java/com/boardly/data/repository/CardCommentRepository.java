@@ -0,0 +1,15 @@
+package com.boardly.data.repository;
+
+import com.boardly.data.model.nosql.CardComment;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.UUID;
+
+@Repository
+public interface CardCommentRepository extends MongoRepository<CardComment, UUID>, CardCommentRepositoryCustom {
+    long deleteByIdAndBoardIdAndCardId(UUID id, UUID boardId, UUID cardId);
+    void deleteAllByBoardId(UUID boardId);
+    void deleteAllByCardIdIn(Collection<UUID> cardIds);
+}
@@ -0,0 +1,16 @@
+package com.boardly.data.repository;
+
+import com.boardly.data.model.nosql.CardComment;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface CardCommentRepositoryCustom {
+    List<CardComment> findPage(UUID boardId, UUID cardId, Instant afterCreatedAt, UUID afterId, int limit);
+
+    Optional<CardComment> updateContent(UUID boardId, UUID cardId, UUID commentId, String content);
+
+    void upsertAll(List<CardComment> comments);
+}
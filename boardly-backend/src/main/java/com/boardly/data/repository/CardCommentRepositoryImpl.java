@@ -0,0 +1,66 @@
+package com.boardly.data.repository;
+
+import com.boardly.data.model.nosql.CardComment;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.FindAndReplaceOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+public class CardCommentRepositoryImpl implements CardCommentRepositoryCustom {
+    private final MongoTemplate mongoTemplate;
+
+    public CardCommentRepositoryImpl(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    // Keyset page in {cardId, createdAt, _id} index order, starting strictly after the given comment
+    @Override
+    public List<CardComment> findPage(UUID boardId, UUID cardId, Instant afterCreatedAt, UUID afterId, int limit) {
+        Criteria criteria = where("cardId").is(cardId).and("boardId").is(boardId);
+        if (afterCreatedAt != null) {
+            criteria.orOperator(
+                    where("createdAt").gt(afterCreatedAt),
+                    where("createdAt").is(afterCreatedAt).and("_id").gt(afterId));
+        }
+        Query query = Query.query(criteria)
+                .with(Sort.by("createdAt", "_id"))
+                .limit(limit);
+        return mongoTemplate.find(query, CardComment.class);
+    }
+
+    @Override
+    public Optional<CardComment> updateContent(UUID boardId, UUID cardId, UUID commentId, String content) {
+        Query query = Query.query(where("_id").is(commentId).and("cardId").is(cardId).and("boardId").is(boardId));
+        if (content == null) {
+            return Optional.ofNullable(mongoTemplate.findOne(query, CardComment.class));
+        }
+        Update update = new Update()
+                .set("content", content)
+                .set("edited", true);
+        return Optional.ofNullable(mongoTemplate.findAndModify(query, update, FindAndModifyOptions.options().returnNew(true), CardComment.class));
+    }
+
+    // Idempotent, so a migration batch that is interrupted can simply be replayed
+    @Override
+    public void upsertAll(List<CardComment> comments) {
+        if (comments.isEmpty()) {
+            return;
+        }
+        BulkOperations bulkOperations = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, CardComment.class);
+        for (CardComment comment : comments) {
+            bulkOperations.replaceOne(Query.query(where("_id").is(comment.getId())), comment, FindAndReplaceOptions.options().upsert());
+        }
+        bulkOperations.execute();
+    }
+}
@@ -6,9 +6,11 @@ import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Repository
-public interface KanbanBoardRepository extends MongoRepository<KanbanBoard, UUID> {
+public interface KanbanBoardRepository extends MongoRepository<KanbanBoard, UUID>, KanbanBoardRepositoryCustom {
     Optional<KanbanBoard> findByBoardId(UUID boardId);
     void deleteByBoardId(UUID boardId);
+    Stream<KanbanBoard> streamAllByRankedIsNull();
 }
@@ -0,0 +1,17 @@
+package com.boardly.data.repository;
+
+import com.boardly.data.model.nosql.KanbanList;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface KanbanBoardRepositoryCustom {
+    void pushList(UUID boardId, Long expectedVersion, KanbanList list);
+
+    void updateList(UUID boardId, Long expectedVersion, KanbanList list);
+
+    void pullList(UUID boardId, Long expectedVersion, UUID listId);
+
+    // Rewrites every list at once; only used when re-ranking a board
+    void replaceLists(UUID boardId, Long expectedVersion, List<KanbanList> lists);
+}
@@ -0,0 +1,55 @@
+package com.boardly.data.repository;
+
+import com.boardly.data.model.nosql.KanbanBoard;
+import com.boardly.data.model.nosql.KanbanList;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+// Every list write is guarded by the version read alongside the board and bumps it on success
+public class KanbanBoardRepositoryImpl implements KanbanBoardRepositoryCustom {
+    private final MongoTemplate mongoTemplate;
+
+    public KanbanBoardRepositoryImpl(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @Override
+    public void pushList(UUID boardId, Long expectedVersion, KanbanList list) {
+        apply(boardId, expectedVersion, new Update().push("lists", list));
+    }
+
+    @Override
+    public void updateList(UUID boardId, Long expectedVersion, KanbanList list) {
+        Update update = new Update()
+                .set("lists.$[l].title", list.getTitle())
+                .set("lists.$[l].rank", list.getRank())
+                .set("lists.$[l].changeSeq", list.getChangeSeq())
+                .filterArray(where("l.Id").is(list.getId()));
+        apply(boardId, expectedVersion, update);
+    }
+
+    @Override
+    public void pullList(UUID boardId, Long expectedVersion, UUID listId) {
+        apply(boardId, expectedVersion, new Update().pull("lists", Query.query(where("Id").is(listId))));
+    }
+
+    @Override
+    public void replaceLists(UUID boardId, Long expectedVersion, List<KanbanList> lists) {
+        apply(boardId, expectedVersion, new Update().set("lists", lists).set("ranked", true));
+    }
+
+    private void apply(UUID boardId, Long expectedVersion, Update update) {
+        Query query = Query.query(where("boardId").is(boardId).and("version").is(expectedVersion));
+        update.inc("version", 1);
+        if (mongoTemplate.updateFirst(query, update, KanbanBoard.class).getMatchedCount() == 0) {
+            throw new OptimisticLockingFailureException("Board " + boardId + " was modified concurrently");
+        }
+    }
+}
@@ -9,9 +9,11 @@ import java.util.Optional;
 import java.util.UUID;
 
 @Repository
-public interface KanbanCardRepository extends MongoRepository<KanbanCard, UUID> {
+public interface KanbanCardRepository extends MongoRepository<KanbanCard, UUID>, KanbanCardRepositoryCustom {
     List<KanbanCard> findAllByBoardId(UUID boardId);
     Optional<KanbanCard> findByBoardIdAndId(UUID boardId, UUID cardId);
+    boolean existsByBoardIdAndId(UUID boardId, UUID cardId);
+    boolean existsByBoardIdAndIdAndChecklists_Id(UUID boardId, UUID cardId, UUID checklistId);
     void deleteAllByBoardId(UUID boardId);
     void deleteAllByBoardIdAndListId(UUID boardId, UUID listId);
 }
@@ -0,0 +1,48 @@
+package com.boardly.data.repository;
+
+import com.boardly.data.model.nosql.Checklist;
+import com.boardly.data.model.nosql.ChecklistItem;
+import com.boardly.data.model.nosql.KanbanCard;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+public interface KanbanCardRepositoryCustom {
+    List<KanbanCard> findBoardViewCards(UUID boardId);
+
+    List<KanbanCard> findBoardViewCardsChangedSince(UUID boardId, long changeSeq);
+
+    List<KanbanCard> findBoardViewCardSummaries(UUID boardId);
+
+    void updateCardDetails(KanbanCard card);
+
+    boolean pushChecklist(UUID boardId, UUID cardId, Checklist checklist, long changeSeq);
+
+    boolean pullChecklist(UUID boardId, UUID cardId, UUID checklistId, long changeSeq);
+
+    Optional<Checklist> updateChecklistTitle(UUID boardId, UUID cardId, UUID checklistId, String title, long changeSeq);
+
+    boolean pushChecklistItem(UUID boardId, UUID cardId, UUID checklistId, ChecklistItem item, long changeSeq);
+
+    boolean pullChecklistItem(UUID boardId, UUID cardId, UUID checklistId, UUID itemId, long changeSeq);
+
+    Optional<ChecklistItem> updateChecklistItem(UUID boardId, UUID cardId, UUID checklistId, UUID itemId, String text, Boolean completed, long changeSeq);
+
+    List<UUID> findIdsByBoardIdAndListId(UUID boardId, UUID listId);
+
+    String[] findNeighbourRanks(UUID boardId, UUID listId, UUID excludedCardId, Integer index);
+
+    List<KanbanCard> findOrderingsByBoardId(UUID boardId);
+
+    int updateRanks(List<RankUpdate> updates, long changeSeq);
+
+    Stream<KanbanCard> streamCardsWithEmbeddedComments(int batchSize);
+
+    void pullEmbeddedComments(Map<UUID, List<UUID>> commentIdsByCard);
+
+    record RankUpdate(UUID cardId, String previousRank, String rank) {
+    }
+}
@@ -0,0 +1,394 @@
+package com.boardly.data.repository;
+
+import com.boardly.data.model.nosql.Checklist;
+import com.boardly.data.model.nosql.ChecklistItem;
+import com.boardly.data.model.nosql.KanbanCard;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.bson.Document;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationUpdate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+// Embedded checklists, checklist items and legacy comments store their id as "_id"
+public class KanbanCardRepositoryImpl implements KanbanCardRepositoryCustom {
+    private static final String[] BOARD_VIEW_SUMMARY_FIELDS = {"boardId", "listId", "title", "rank", "position", "startDate", "dueDate", "labels", "assignedMembers"};
+
+    private final MongoTemplate mongoTemplate;
+
+    public KanbanCardRepositoryImpl(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    // Only what the board view renders; sorted along the {boardId, listId, rank, _id} index
+    @Override
+    public List<KanbanCard> findBoardViewCards(UUID boardId) {
+        return mongoTemplate.find(boardViewQuery(Query.query(where("boardId").is(boardId))), KanbanCard.class);
+    }
+
+    @Override
+    public List<KanbanCard> findBoardViewCardsChangedSince(UUID boardId, long changeSeq) {
+        Query query = Query.query(where("boardId").is(boardId).and("changeSeq").gt(changeSeq));
+        return mongoTemplate.find(boardViewQuery(query), KanbanCard.class);
+    }
+
+    // Checklists are replaced by item counts; documents written before the counters existed are counted on the fly
+    @Override
+    public List<KanbanCard> findBoardViewCardSummaries(UUID boardId) {
+        Document project = new Document();
+        for (String field : BOARD_VIEW_SUMMARY_FIELDS) {
+            project.append(field, 1);
+        }
+        project.append("checklistItemCount", new Document("$ifNull", List.of("$checklistItemCount", checklistItemTotal())))
+                .append("completedChecklistItemCount", new Document("$ifNull", List.of("$completedChecklistItemCount", completedChecklistItemTotal())));
+
+        Aggregation aggregation = Aggregation.newAggregation(
+                Aggregation.match(where("boardId").is(boardId)),
+                Aggregation.sort(Sort.by("listId", "rank", "_id")),
+                context -> new Document("$project", project));
+        return mongoTemplate.aggregate(aggregation, KanbanCard.class, KanbanCard.class).getMappedResults();
+    }
+
+    // Guarded by the version the card was read with; documents written before versioning have none
+    @Override
+    public void updateCardDetails(KanbanCard card) {
+        Query query = cardQuery(card.getBoardId(), card.getId()).addCriteria(where("version").is(card.getVersion()));
+        Update update = new Update()
+                .set("title", card.getTitle())
+                .set("description", card.getDescription())
+                .set("rank", card.getRank())
+                .set("listId", card.getListId())
+                .set("startDate", card.getStartDate())
+                .set("dueDate", card.getDueDate())
+                .set("labels", card.getLabels())
+                .set("assignedMembers", card.getAssignedMembers())
+                .set("updatedAt", Instant.now())
+                .set("changeSeq", card.getChangeSeq())
+                .inc("version", 1);
+        if (mongoTemplate.updateFirst(query, update, KanbanCard.class).getMatchedCount() == 0) {
+            throw new OptimisticLockingFailureException("Card " + card.getId() + " was modified concurrently");
+        }
+    }
+
+    @Override
+    public boolean pushChecklist(UUID boardId, UUID cardId, Checklist checklist, long changeSeq) {
+        return withChecklistCounters(boardId, cardId, () -> {
+            Update update = new Update().push("checklists", checklist).set("changeSeq", changeSeq);
+            incChecklistCounters(update, checklist.getItems().size(), completedCount(checklist.getItems()));
+            return matchedOrNull(mongoTemplate.updateFirst(counted(cardQuery(boardId, cardId)), update, KanbanCard.class).getMatchedCount());
+        }) != null;
+    }
+
+    // The counters drop by what the checklist held when it was read, so the pull only applies if its items are unchanged
+    @Override
+    public boolean pullChecklist(UUID boardId, UUID cardId, UUID checklistId, long changeSeq) {
+        return withChecklistCounters(boardId, cardId, () -> {
+            while (true) {
+                Query read = counted(checklistQuery(boardId, cardId, checklistId));
+                read.fields().elemMatch("checklists", where("_id").is(checklistId));
+                Document card = mongoTemplate.findOne(read, Document.class, mongoTemplate.getCollectionName(KanbanCard.class));
+                if (card == null) {
+                    return mongoTemplate.exists(counted(cardQuery(boardId, cardId)), KanbanCard.class) ? Boolean.TRUE : null;
+                }
+                List<?> items = card.getList("checklists", Document.class).getFirst().get("items", List.class);
+                int total = items == null ? 0 : items.size();
+                int completed = items == null ? 0 : (int) items.stream()
+                        .filter(item -> Boolean.TRUE.equals(((Document) item).get("isCompleted")))
+                        .count();
+
+                Query query = counted(cardQuery(boardId, cardId)
+                        .addCriteria(where("checklists").elemMatch(where("_id").is(checklistId).and("items").is(items))));
+                Update update = new Update().pull("checklists", Query.query(where("_id").is(checklistId))).set("changeSeq", changeSeq);
+                incChecklistCounters(update, -total, -completed);
+                if (mongoTemplate.updateFirst(query, update, KanbanCard.class).getMatchedCount() > 0) {
+                    return Boolean.TRUE;
+                }
+            }
+        }) != null;
+    }
+
+    @Override
+    public Optional<Checklist> updateChecklistTitle(UUID boardId, UUID cardId, UUID checklistId, String title, long changeSeq) {
+        Query query = checklistQuery(boardId, cardId, checklistId);
+        query.fields().elemMatch("checklists", where("_id").is(checklistId));
+
+        KanbanCard card;
+        if (title == null) {
+            card = mongoTemplate.findOne(query, KanbanCard.class);
+        } else {
+            Update update = new Update()
+                    .set("checklists.$[cl].title", title)
+                    .set("changeSeq", changeSeq)
+                    .filterArray(where("cl._id").is(checklistId));
+            card = mongoTemplate.findAndModify(query, update, FindAndModifyOptions.options().returnNew(true), KanbanCard.class);
+        }
+        return Optional.ofNullable(card)
+                .flatMap(c -> c.getChecklists().stream().findFirst());
+    }
+
+    @Override
+    public boolean pushChecklistItem(UUID boardId, UUID cardId, UUID checklistId, ChecklistItem item, long changeSeq) {
+        return withChecklistCounters(boardId, cardId, () -> {
+            Update update = new Update()
+                    .push("checklists.$[cl].items", item)
+                    .set("changeSeq", changeSeq)
+                    .filterArray(where("cl._id").is(checklistId));
+            incChecklistCounters(update, 1, item.isCompleted() ? 1 : 0);
+            return matchedOrNull(mongoTemplate.updateFirst(counted(checklistQuery(boardId, cardId, checklistId)), update, KanbanCard.class).getMatchedCount());
+        }) != null;
+    }
+
+    // Whether the item counted as completed decides the counters, so the pull is tried against each state in turn
+    @Override
+    public boolean pullChecklistItem(UUID boardId, UUID cardId, UUID checklistId, UUID itemId, long changeSeq) {
+        return withChecklistCounters(boardId, cardId, () -> {
+            do {
+                for (boolean completed : new boolean[]{true, false}) {
+                    Update update = new Update()
+                            .pull("checklists.$[cl].items", Query.query(where("_id").is(itemId)))
+                            .set("changeSeq", changeSeq)
+                            .filterArray(where("cl._id").is(checklistId));
+                    incChecklistCounters(update, -1, completed ? -1 : 0);
+                    if (mongoTemplate.updateFirst(counted(itemQuery(boardId, cardId, checklistId, itemId, completed)), update, KanbanCard.class).getMatchedCount() > 0) {
+                        return Boolean.TRUE;
+                    }
+                }
+            } while (mongoTemplate.exists(counted(itemQuery(boardId, cardId, checklistId, itemId, null)), KanbanCard.class));
+            return mongoTemplate.exists(counted(checklistQuery(boardId, cardId, checklistId)), KanbanCard.class) ? Boolean.TRUE : null;
+        }) != null;
+    }
+
+    @Override
+    public Optional<ChecklistItem> updateChecklistItem(UUID boardId, UUID cardId, UUID checklistId, UUID itemId, String text, Boolean completed, long changeSeq) {
+        KanbanCard card;
+        if (text == null && completed == null) {
+            card = mongoTemplate.findOne(itemQuery(boardId, cardId, checklistId, itemId, null), KanbanCard.class);
+        } else if (completed == null) {
+            card = mongoTemplate.findAndModify(itemQuery(boardId, cardId, checklistId, itemId, null),
+                    itemUpdate(checklistId, itemId, text, null, changeSeq), FindAndModifyOptions.options().returnNew(true), KanbanCard.class);
+        } else {
+            // Only a write that flips the item's state moves the completed counter
+            card = withChecklistCounters(boardId, cardId, () -> {
+                do {
+                    Update flip = itemUpdate(checklistId, itemId, text, completed, changeSeq);
+                    incChecklistCounters(flip, 0, completed ? 1 : -1);
+                    KanbanCard updated = mongoTemplate.findAndModify(counted(itemQuery(boardId, cardId, checklistId, itemId, !completed)),
+                            flip, FindAndModifyOptions.options().returnNew(true), KanbanCard.class);
+                    if (updated == null) {
+                        updated = mongoTemplate.findAndModify(counted(itemQuery(boardId, cardId, checklistId, itemId, completed)),
+                                itemUpdate(checklistId, itemId, text, completed, changeSeq), FindAndModifyOptions.options().returnNew(true), KanbanCard.class);
+                    }
+                    if (updated != null) {
+                        return updated;
+                    }
+                } while (mongoTemplate.exists(counted(itemQuery(boardId, cardId, checklistId, itemId, null)), KanbanCard.class));
+                return null;
+            });
+        }
+        return Optional.ofNullable(card)
+                .flatMap(c -> c.getChecklists().stream().findFirst())
+                .flatMap(checklist -> checklist.getItems().stream()
+                        .filter(item -> item.getId().equals(itemId))
+                        .findFirst());
+    }
+
+    @Override
+    public List<UUID> findIdsByBoardIdAndListId(UUID boardId, UUID listId) {
+        Query query = Query.query(where("boardId").is(boardId).and("listId").is(listId));
+        query.fields().include("_id");
+        return mongoTemplate.find(query, KanbanCard.class).stream()
+                .map(KanbanCard::getId)
+                .toList();
+    }
+
+    // The ranks either side of a slot in a list, ignoring the card being moved into it
+    @Override
+    public String[] findNeighbourRanks(UUID boardId, UUID listId, UUID excludedCardId, Integer index) {
+        Criteria criteria = where("boardId").is(boardId).and("listId").is(listId);
+        if (excludedCardId != null) {
+            criteria.and("_id").ne(excludedCardId);
+        }
+        if (index == null) {
+            return new String[]{lastRank(criteria), null};
+        }
+
+        Query query = Query.query(criteria)
+                .with(Sort.by("rank", "_id"))
+                .skip(Math.max(index - 1, 0))
+                .limit(index == 0 ? 1 : 2);
+        query.fields().include("rank");
+        List<KanbanCard> neighbours = mongoTemplate.find(query, KanbanCard.class);
+        if (index == 0) {
+            return new String[]{null, neighbours.isEmpty() ? null : neighbours.getFirst().getRank()};
+        }
+        if (neighbours.isEmpty()) {
+            return new String[]{lastRank(criteria), null};
+        }
+        return new String[]{neighbours.get(0).getRank(), neighbours.size() > 1 ? neighbours.get(1).getRank() : null};
+    }
+
+    @Override
+    public List<KanbanCard> findOrderingsByBoardId(UUID boardId) {
+        Query query = Query.query(where("boardId").is(boardId));
+        query.fields().include("listId", "rank", "position", "changeSeq");
+        return mongoTemplate.find(query, KanbanCard.class);
+    }
+
+    // Skips cards whose rank changed since it was read, so a concurrent move is never overwritten
+    @Override
+    public int updateRanks(List<RankUpdate> updates, long changeSeq) {
+        if (updates.isEmpty()) {
+            return 0;
+        }
+        BulkOperations bulkOperations = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, KanbanCard.class);
+        for (RankUpdate rankUpdate : updates) {
+            bulkOperations.updateOne(
+                    Query.query(where("_id").is(rankUpdate.cardId()).and("rank").is(rankUpdate.previousRank())),
+                    new Update().set("rank", rankUpdate.rank()).set("changeSeq", changeSeq).inc("version", 1));
+        }
+        return bulkOperations.execute().getMatchedCount();
+    }
+
+    @Override
+    public Stream<KanbanCard> streamCardsWithEmbeddedComments(int batchSize) {
+        Query query = Query.query(where("comments.0").exists(true)).cursorBatchSize(batchSize);
+        query.fields().include("boardId", "comments");
+        return mongoTemplate.stream(query, KanbanCard.class);
+    }
+
+    // Pulls only the comments that were copied, so nothing written to the array in the meantime is lost
+    @Override
+    public void pullEmbeddedComments(Map<UUID, List<UUID>> commentIdsByCard) {
+        if (commentIdsByCard.isEmpty()) {
+            return;
+        }
+        BulkOperations bulkOperations = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, KanbanCard.class);
+        commentIdsByCard.forEach((cardId, commentIds) -> bulkOperations.updateOne(
+                Query.query(where("_id").is(cardId)),
+                new Update().pull("comments", Query.query(where("_id").in(commentIds)))));
+        bulkOperations.execute();
+    }
+
+    private String lastRank(Criteria criteria) {
+        Query query = Query.query(criteria).with(Sort.by(Sort.Direction.DESC, "rank", "_id")).limit(1);
+        query.fields().include("rank");
+        KanbanCard last = mongoTemplate.findOne(query, KanbanCard.class);
+        return last == null ? null : last.getRank();
+    }
+
+    private Query boardViewQuery(Query query) {
+        query.fields().include(BOARD_VIEW_SUMMARY_FIELDS).include("checklists");
+        return query.with(Sort.by("listId", "rank", "_id"));
+    }
+
+    // The counters are kept with $inc, so checklist writes only apply to cards that already have them. A card written
+    // before they existed gets them counted from its checklists by its first checklist write, which is then retried.
+    private <T> T withChecklistCounters(UUID boardId, UUID cardId, Supplier<T> write) {
+        T result = write.get();
+        if (result == null && backfillChecklistCounters(boardId, cardId)) {
+            result = write.get();
+        }
+        return result;
+    }
+
+    private boolean backfillChecklistCounters(UUID boardId, UUID cardId) {
+        Query query = cardQuery(boardId, cardId).addCriteria(where("checklistItemCount").exists(false));
+        AggregationUpdate update = AggregationUpdate.from(List.of(context -> new Document("$set",
+                new Document("checklistItemCount", checklistItemTotal())
+                        .append("completedChecklistItemCount", completedChecklistItemTotal()))));
+        return mongoTemplate.updateFirst(query, update, KanbanCard.class).getModifiedCount() > 0;
+    }
+
+    private static Query counted(Query query) {
+        return query.addCriteria(where("checklistItemCount").exists(true));
+    }
+
+    private static void incChecklistCounters(Update update, int items, int completedItems) {
+        if (items != 0) {
+            update.inc("checklistItemCount", items);
+        }
+        if (completedItems != 0) {
+            update.inc("completedChecklistItemCount", completedItems);
+        }
+    }
+
+    private static Update itemUpdate(UUID checklistId, UUID itemId, String text, Boolean completed, long changeSeq) {
+        Update update = new Update().set("changeSeq", changeSeq);
+        if (text != null) {
+            update.set("checklists.$[cl].items.$[it].text", text);
+        }
+        if (completed != null) {
+            update.set("checklists.$[cl].items.$[it].isCompleted", completed);
+        }
+        return update.filterArray(where("cl._id").is(checklistId))
+                .filterArray(where("it._id").is(itemId));
+    }
+
+    private static int completedCount(List<ChecklistItem> items) {
+        return (int) items.stream().filter(ChecklistItem::isCompleted).count();
+    }
+
+    private static Boolean matchedOrNull(long matched) {
+        return matched > 0 ? Boolean.TRUE : null;
+    }
+
+    private static Document checklists() {
+        return new Document("$ifNull", List.of("$checklists", List.of()));
+    }
+
+    private static Document items() {
+        return new Document("$ifNull", List.of("$$cl.items", List.of()));
+    }
+
+    private static Document checklistItemTotal() {
+        return sumOverChecklists(new Document("$size", items()));
+    }
+
+    private static Document completedChecklistItemTotal() {
+        Document completedItems = new Document("$filter", new Document("input", items())
+                .append("as", "it")
+                .append("cond", "$$it.isCompleted"));
+        return sumOverChecklists(new Document("$size", completedItems));
+    }
+
+    private static Document sumOverChecklists(Document perChecklist) {
+        return new Document("$sum", new Document("$map", new Document("input", checklists())
+                .append("as", "cl")
+                .append("in", perChecklist)));
+    }
+
+    private Query cardQuery(UUID boardId, UUID cardId) {
+        return Query.query(where("_id").is(cardId).and("boardId").is(boardId));
+    }
+
+    private Query checklistQuery(UUID boardId, UUID cardId, UUID checklistId) {
+        return cardQuery(boardId, cardId).addCriteria(where("checklists._id").is(checklistId));
+    }
+
+    // Projects the item's checklist; completed, when given, also requires the item to be in that state
+    private Query itemQuery(UUID boardId, UUID cardId, UUID checklistId, UUID itemId, Boolean completed) {
+        Criteria item = where("_id").is(itemId);
+        if (completed != null) {
+            item = completed ? item.and("isCompleted").is(true) : item.and("isCompleted").ne(true);
+        }
+        Query query = cardQuery(boardId, cardId)
+                .addCriteria(where("checklists").elemMatch(where("_id").is(checklistId).and("items").elemMatch(item)));
+        query.fields().elemMatch("checklists", where("_id").is(checklistId));
+        return query;
+    }
+}
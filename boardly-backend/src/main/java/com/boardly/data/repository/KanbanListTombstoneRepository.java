@@ -0,0 +1,16 @@
+package com.boardly.data.repository;
+
+import com.boardly.data.model.nosql.KanbanListTombstone;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface KanbanListTombstoneRepository extends MongoRepository<KanbanListTombstone, UUID> {
+    List<KanbanListTombstone> findAllByBoardIdAndChangeSeqGreaterThan(UUID boardId, long changeSeq);
+    List<KanbanListTombstone> deleteAllByBoardIdAndDeletedAtBefore(UUID boardId, Instant deletedAt);
+    void deleteAllByBoardId(UUID boardId);
+}
@@ -0,0 +1,23 @@
+package com.boardly.data.repository;
+
+import com.boardly.data.model.sql.notification.OutboxEvent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.util.List;
+
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+    // SKIP LOCKED lets every node claim concurrently without handing out the same rows twice; once claimed, a row's
+    // lease keeps it from being handed out again after the lock is released.
+    @Query(value = """
+                SELECT * FROM notification_outbox
+                WHERE attempts < :maxAttempts
+                  AND (available_at IS NULL OR available_at <= :now)
+                ORDER BY id
+                LIMIT :limit
+                FOR UPDATE SKIP LOCKED
+            """, nativeQuery = true)
+    List<OutboxEvent> lockNextBatch(@Param("now") Instant now, @Param("maxAttempts") int maxAttempts, @Param("limit") int limit);
+}
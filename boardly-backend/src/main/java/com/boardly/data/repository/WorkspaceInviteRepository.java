@@ -1,7 +1,6 @@
 package com.boardly.data.repository;
 
 import com.boardly.common.enums.InviteStatus;
-import com.boardly.data.model.sql.authentication.User;
 import com.boardly.data.model.sql.workspace.WorkspaceInvite;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -14,7 +13,7 @@ public interface WorkspaceInviteRepository extends JpaRepository<WorkspaceInvite
     boolean existsByWorkspace_IdAndInvitee_IdAndStatus(UUID workspaceId, UUID inviteeId, InviteStatus status);
 
     @EntityGraph(attributePaths = {"workspace", "inviter"})
-    List<WorkspaceInvite> findAllByInviteeAndStatus(User user, InviteStatus status);
+    List<WorkspaceInvite> findAllByInvitee_IdAndStatus(UUID inviteeId, InviteStatus status);
 
     @EntityGraph(attributePaths = {"invitee", "inviter"})
     List<WorkspaceInvite> findAllByWorkspace_IdAndStatus(UUID workspaceId, InviteStatus status);
@@ -1,7 +1,6 @@
 package com.boardly.data.repository;
 
 import com.boardly.common.dto.workspace.WorkspaceDTO;
-import com.boardly.data.model.sql.authentication.User;
 import com.boardly.data.model.sql.workspace.Workspace;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
@@ -16,11 +15,11 @@ import java.util.UUID;
 public interface WorkspaceRepository extends JpaRepository<Workspace, UUID> {
     @Query("SELECT new com.boardly.common.dto.workspace.WorkspaceDTO(w.Id, w.title, w.description, wm.role) " +
             "FROM WorkspaceMember wm JOIN wm.workspace w " +
-            "WHERE wm.user = :user")
-    List<WorkspaceDTO> findAllWorkspaceDTOsByUser(@Param("user") User user);
+            "WHERE wm.user.Id = :userId")
+    List<WorkspaceDTO> findAllWorkspaceDTOsByUserId(@Param("userId") UUID userId);
 
     @Query("SELECT new com.boardly.common.dto.workspace.WorkspaceDTO(w.Id, w.title, w.description, wm.role) " +
             "FROM WorkspaceMember wm JOIN wm.workspace w " +
-            "WHERE wm.workspace = :workspace AND wm.user = :user")
-    Optional<WorkspaceDTO> findWorkspaceDTOByWorkspaceAndUser(@Param("workspace") Workspace workspace, @Param("user") User user);
+            "WHERE wm.workspace = :workspace AND wm.user.Id = :userId")
+    Optional<WorkspaceDTO> findWorkspaceDTOByWorkspaceAndUserId(@Param("workspace") Workspace workspace, @Param("userId") UUID userId);
 }
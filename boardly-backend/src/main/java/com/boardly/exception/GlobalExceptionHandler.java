@@ -3,6 +3,7 @@ package com.boardly.exception;
 import com.boardly.common.dto.ApiErrorResponseDTO;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.BadCredentialsException;
@@ -109,6 +110,16 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(apiErrorResponseDTO, HttpStatus.CONFLICT);
     }
 
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<ApiErrorResponseDTO> handleOptimisticLockingFailureException(OptimisticLockingFailureException ex) {
+        logger.error("Concurrent modification: {}", ex.getMessage());
+        ApiErrorResponseDTO apiErrorResponseDTO = new ApiErrorResponseDTO();
+        apiErrorResponseDTO.setStatusCode(HttpStatus.CONFLICT.value());
+        apiErrorResponseDTO.setTimestamp(Instant.now());
+        apiErrorResponseDTO.setMessage("The resource was modified by another request. Please retry.");
+        return new ResponseEntity<>(apiErrorResponseDTO, HttpStatus.CONFLICT);
+    }
+
     @ExceptionHandler(BadRequestException.class)
     public ResponseEntity<ApiErrorResponseDTO> handleBadRequestException(BadRequestException ex) {
         logger.error("Bad request: {}", ex.getMessage());
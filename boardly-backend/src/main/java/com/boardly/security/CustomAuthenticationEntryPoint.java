@@ -1,9 +1,5 @@
 package com.boardly.security;
 
-import com.boardly.common.dto.ApiErrorResponseDTO;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.SerializationFeature;
-import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.security.core.AuthenticationException;
@@ -11,24 +7,18 @@ import org.springframework.security.web.AuthenticationEntryPoint;
 import org.springframework.stereotype.Component;
 
 import java.io.IOException;
-import java.time.Instant;
 
 @Component
 public class CustomAuthenticationEntryPoint implements AuthenticationEntryPoint {
+    private final ErrorResponseWriter.PreparedError notAuthenticated;
+
+    public CustomAuthenticationEntryPoint(ErrorResponseWriter errorResponseWriter) {
+        this.notAuthenticated = errorResponseWriter.prepare(HttpServletResponse.SC_UNAUTHORIZED, "User is not authenticated");
+    }
+
     @Override
     public void commence(HttpServletRequest request, HttpServletResponse response,
                          AuthenticationException authException) throws IOException {
-        ApiErrorResponseDTO apiErrorResponseDTO = new ApiErrorResponseDTO();
-        apiErrorResponseDTO.setStatusCode(HttpServletResponse.SC_UNAUTHORIZED);
-        apiErrorResponseDTO.setTimestamp(Instant.now());
-        apiErrorResponseDTO.setMessage("User is not authenticated");
-
-        response.setContentType("application/json");
-        response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
-
-        ObjectMapper mapper = new ObjectMapper();
-        mapper.registerModule(new JavaTimeModule());
-        mapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
-        mapper.writeValue(response.getOutputStream(), apiErrorResponseDTO);
+        notAuthenticated.writeTo(response);
     }
 }
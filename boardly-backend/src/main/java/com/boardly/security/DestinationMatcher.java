@@ -0,0 +1,113 @@
+package com.boardly.security;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+// Segment trie over destination templates. "{name}" captures a canonical UUID, a trailing "**" matches any remainder.
+// Matching walks the destination once without regexes or exceptions, so a malformed id simply does not match.
+final class DestinationMatcher<T> {
+    private final Node<T> root = new Node<>();
+
+    DestinationMatcher<T> route(String template, T value) {
+        Node<T> node = root;
+        for (String segment : template.substring(1).split("/")) {
+            if (segment.equals("**")) {
+                node.remainder = value;
+                return this;
+            }
+            node = segment.startsWith("{")
+                    ? (node.uuid == null ? node.uuid = new Node<>() : node.uuid)
+                    : node.literals.computeIfAbsent(segment, key -> new Node<>());
+        }
+        node.value = value;
+        return this;
+    }
+
+    Match<T> match(String destination) {
+        if (destination.isEmpty() || destination.charAt(0) != '/') {
+            return null;
+        }
+        Node<T> node = root;
+        List<UUID> ids = new ArrayList<>(3);
+        int start = 1;
+        while (true) {
+            if (node.remainder != null) {
+                return new Match<>(node.remainder, ids);
+            }
+            int end = destination.indexOf('/', start);
+            if (end < 0) {
+                end = destination.length();
+            }
+            Node<T> next = node.literals.get(destination.substring(start, end));
+            if (next == null && node.uuid != null) {
+                UUID id = parseUuid(destination, start, end);
+                if (id != null) {
+                    ids.add(id);
+                    next = node.uuid;
+                }
+            }
+            if (next == null) {
+                return null;
+            }
+            node = next;
+            if (end == destination.length()) {
+                return node.value == null ? null : new Match<>(node.value, ids);
+            }
+            start = end + 1;
+        }
+    }
+
+    static UUID parseUuid(String value, int start, int end) {
+        if (end - start != 36) {
+            return null;
+        }
+        long mostSignificant = 0;
+        long leastSignificant = 0;
+        int digits = 0;
+        for (int i = 0; i < 36; i++) {
+            char c = value.charAt(start + i);
+            if (i == 8 || i == 13 || i == 18 || i == 23) {
+                if (c != '-') {
+                    return null;
+                }
+                continue;
+            }
+            int digit = hexDigit(c);
+            if (digit < 0) {
+                return null;
+            }
+            if (digits++ < 16) {
+                mostSignificant = mostSignificant << 4 | digit;
+            } else {
+                leastSignificant = leastSignificant << 4 | digit;
+            }
+        }
+        return new UUID(mostSignificant, leastSignificant);
+    }
+
+    private static int hexDigit(char c) {
+        if (c >= '0' && c <= '9') {
+            return c - '0';
+        }
+        if (c >= 'a' && c <= 'f') {
+            return c - 'a' + 10;
+        }
+        if (c >= 'A' && c <= 'F') {
+            return c - 'A' + 10;
+        }
+        return -1;
+    }
+
+    record Match<T>(T value, List<UUID> ids) {
+    }
+
+    private static final class Node<T> {
+        private final Map<String, Node<T>> literals = new HashMap<>();
+        private Node<T> uuid;
+        private T value;
+        private T remainder;
+    }
+}
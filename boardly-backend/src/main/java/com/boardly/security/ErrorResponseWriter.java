@@ -0,0 +1,74 @@
+package com.boardly.security;
+
+import com.boardly.common.dto.ApiErrorResponseDTO;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Arrays;
+
+@Component
+public class ErrorResponseWriter {
+    private static final Instant MARKER = Instant.parse("1970-01-01T00:00:00Z");
+
+    private final ObjectMapper objectMapper;
+
+    public ErrorResponseWriter(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    // Serializes the body once; only the timestamp is rendered per response.
+    public PreparedError prepare(int statusCode, String message) {
+        ApiErrorResponseDTO body = new ApiErrorResponseDTO();
+        body.setStatusCode(statusCode);
+        body.setTimestamp(MARKER);
+        body.setMessage(message);
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(body);
+            byte[] marker = ("\"" + MARKER + "\"").getBytes(StandardCharsets.UTF_8);
+            int at = indexOf(json, marker);
+            if (at < 0) {
+                throw new IllegalStateException("Timestamp not found in serialized error body");
+            }
+            return new PreparedError(
+                    statusCode,
+                    Arrays.copyOfRange(json, 0, at + 1),
+                    Arrays.copyOfRange(json, at + marker.length - 1, json.length)
+            );
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static int indexOf(byte[] source, byte[] target) {
+        outer:
+        for (int i = 0; i <= source.length - target.length; i++) {
+            for (int j = 0; j < target.length; j++) {
+                if (source[i + j] != target[j]) {
+                    continue outer;
+                }
+            }
+            return i;
+        }
+        return -1;
+    }
+
+    public record PreparedError(int statusCode, byte[] prefix, byte[] suffix) {
+        public void writeTo(HttpServletResponse response) throws IOException {
+            byte[] timestamp = Instant.now().toString().getBytes(StandardCharsets.US_ASCII);
+            response.setStatus(statusCode);
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            response.setContentLength(prefix.length + timestamp.length + suffix.length);
+            ServletOutputStream out = response.getOutputStream();
+            out.write(prefix);
+            out.write(timestamp);
+            out.write(suffix);
+        }
+    }
+}
@@ -27,6 +27,7 @@ public class SecurityConfig {
     private static final Logger logger = LoggerFactory.getLogger(SecurityConfig.class);
     private final JWTFilter jwtFilter;
     private final CustomUserDetailsService customUserDetailsService;
+    private final CustomAuthenticationEntryPoint customAuthenticationEntryPoint;
 
     @Value("${api.base-path}")
     private String basePath;
@@ -34,9 +35,10 @@ public class SecurityConfig {
     @Value("${api.version}")
     private String apiVersion;
 
-    public SecurityConfig(JWTFilter jwtFilter, CustomUserDetailsService customUserDetailsService) {
+    public SecurityConfig(JWTFilter jwtFilter, CustomUserDetailsService customUserDetailsService, CustomAuthenticationEntryPoint customAuthenticationEntryPoint) {
         this.jwtFilter = jwtFilter;
         this.customUserDetailsService = customUserDetailsService;
+        this.customAuthenticationEntryPoint = customAuthenticationEntryPoint;
     }
 
     @PostConstruct
@@ -87,7 +89,7 @@ public class SecurityConfig {
                 )
                 .sessionManagement(session -> session.sessionCreationPolicy(org.springframework.security.config.http.SessionCreationPolicy.STATELESS));
         http.exceptionHandling(exception -> exception
-                .authenticationEntryPoint(new CustomAuthenticationEntryPoint()));
+                .authenticationEntryPoint(customAuthenticationEntryPoint));
         http.addFilterBefore(jwtFilter, UsernamePasswordAuthenticationFilter.class);
         return http.build();
     }
@@ -0,0 +1,92 @@
+package com.boardly.security;
+
+import com.boardly.common.event.BoardAccessChangedEvent;
+import com.boardly.service.CacheInvalidationRelay;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Destinations a STOMP session has already been authorized for, so resubscribing skips the access checks.
+// Grants are dropped on the same events that evict BoardAccessCache, on this node and relayed from the others, and
+// expire after expire-after-write so one that outlived a lost revocation is checked against access again.
+@Component
+public class SubscriptionGrantCache {
+    private final Map<String, SessionGrants> sessions = new ConcurrentHashMap<>();
+    private final long expireAfterWriteNanos;
+
+    public SubscriptionGrantCache(CacheInvalidationRelay cacheInvalidationRelay,
+                                  @Value("${app.subscription-grants.expire-after-write:5m}") Duration expireAfterWrite) {
+        this.expireAfterWriteNanos = expireAfterWrite.toNanos();
+        cacheInvalidationRelay.onRemoteInvalidation(invalidation -> {
+            if (invalidation.accessChange() != null) {
+                onBoardAccessChanged(invalidation.accessChange());
+            }
+        });
+    }
+
+    public boolean isGranted(String sessionId, UUID userId, String destination) {
+        SessionGrants grants = sessionId == null ? null : sessions.get(sessionId);
+        if (grants == null || !grants.userId().equals(userId)) {
+            return false;
+        }
+        Grant grant = grants.destinations().get(destination);
+        if (grant == null) {
+            return false;
+        }
+        if (System.nanoTime() - grant.grantedAt() > expireAfterWriteNanos) {
+            grants.destinations().remove(destination, grant);
+            return false;
+        }
+        return true;
+    }
+
+    public void grantBoard(String sessionId, UUID userId, String destination, UUID workspaceId, UUID boardId) {
+        grant(sessionId, userId, destination, new Grant(workspaceId, boardId, System.nanoTime()));
+    }
+
+    public void grantWorkspace(String sessionId, UUID userId, String destination, UUID workspaceId) {
+        grant(sessionId, userId, destination, new Grant(workspaceId, null, System.nanoTime()));
+    }
+
+    private void grant(String sessionId, UUID userId, String destination, Grant grant) {
+        if (sessionId == null) {
+            return;
+        }
+        SessionGrants grants = sessions.compute(sessionId, (id, existing) ->
+                existing != null && existing.userId().equals(userId) ? existing : new SessionGrants(userId, new ConcurrentHashMap<>()));
+        grants.destinations().put(destination, grant);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBoardAccessChanged(BoardAccessChangedEvent event) {
+        for (SessionGrants grants : sessions.values()) {
+            if (event.userId() == null || event.userId().equals(grants.userId())) {
+                grants.destinations().values().removeIf(grant -> grant.revokedBy(event));
+            }
+        }
+    }
+
+    @EventListener
+    public void onSessionDisconnect(SessionDisconnectEvent event) {
+        sessions.remove(event.getSessionId());
+    }
+
+    private record SessionGrants(UUID userId, Map<String, Grant> destinations) {
+    }
+
+    private record Grant(UUID workspaceId, UUID boardId, long grantedAt) {
+        boolean revokedBy(BoardAccessChangedEvent event) {
+            if (event.boardId() != null) {
+                return event.boardId().equals(boardId);
+            }
+            return event.workspaceId() != null && event.workspaceId().equals(workspaceId);
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.boardly.security;
 
+import com.boardly.security.model.AccessTokenClaims;
 import com.boardly.security.service.CustomUserDetailsService;
 import com.boardly.security.service.JWTFilterService;
 import org.springframework.messaging.Message;
@@ -13,8 +14,6 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
-import java.util.UUID;
-
 @Component
 public class WebSocketAuthenticationInterceptor implements ChannelInterceptor {
 
@@ -34,9 +33,9 @@ public class WebSocketAuthenticationInterceptor implements ChannelInterceptor {
             String authorizationHeader = accessor.getFirstNativeHeader("Authorization");
             if (authorizationHeader != null && authorizationHeader.startsWith("Bearer ")) {
                 String token = authorizationHeader.substring(7);
-                UUID userId = jwtFilterService.validateToken(token).orElse(null);
-                if (userId != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-                    UserDetails userDetails = customUserDetailsService.loadUserById(userId);
+                AccessTokenClaims claims = jwtFilterService.validateToken(token).orElse(null);
+                if (claims != null && SecurityContextHolder.getContext().getAuthentication() == null) {
+                    UserDetails userDetails = customUserDetailsService.loadUserFromClaims(claims);
                     UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
                     accessor.setUser(authentication);
                 }
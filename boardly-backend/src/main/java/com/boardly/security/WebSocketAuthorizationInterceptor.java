@@ -1,6 +1,8 @@
 package com.boardly.security;
 
+import com.boardly.security.model.AppUserDetails;
 import com.boardly.service.AuthorizationSecurityService;
+import com.boardly.service.BoardAccessContext;
 import org.springframework.messaging.Message;
 import org.springframework.messaging.MessageChannel;
 import org.springframework.messaging.simp.stomp.StompCommand;
@@ -8,6 +10,9 @@ import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
 import org.springframework.messaging.support.ChannelInterceptor;
 import org.springframework.messaging.support.MessageHeaderAccessor;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.context.SecurityContextImpl;
 import org.springframework.stereotype.Component;
 
 import java.util.UUID;
@@ -16,9 +21,25 @@ import java.util.UUID;
 public class WebSocketAuthorizationInterceptor implements ChannelInterceptor {
 
     private final AuthorizationSecurityService authorizationSecurityService;
+    private final BoardAccessContext boardAccessContext;
+    private final SubscriptionGrantCache subscriptionGrantCache;
 
-    public WebSocketAuthorizationInterceptor(AuthorizationSecurityService authorizationSecurityService) {
+    // Every topic family the services publish to. Unmatched /topic and /queue subscriptions, including ids that are
+    // not UUIDs, are refused.
+    private final DestinationMatcher<TopicRule> routes = new DestinationMatcher<TopicRule>()
+            .route("/user/**", TopicRule.USER)
+            .route("/topic/board/{boardId}", TopicRule.BOARD)
+            .route("/topic/kanban/{boardId}", TopicRule.BOARD)
+            .route("/topic/kanban/{boardId}/card/{cardId}", TopicRule.BOARD)
+            .route("/topic/kanban/{boardId}/card/{cardId}/checklist/{checklistId}", TopicRule.BOARD)
+            .route("/topic/workspace/{workspaceId}", TopicRule.WORKSPACE);
+
+    public WebSocketAuthorizationInterceptor(AuthorizationSecurityService authorizationSecurityService,
+                                             BoardAccessContext boardAccessContext,
+                                             SubscriptionGrantCache subscriptionGrantCache) {
         this.authorizationSecurityService = authorizationSecurityService;
+        this.boardAccessContext = boardAccessContext;
+        this.subscriptionGrantCache = subscriptionGrantCache;
     }
 
     @Override
@@ -28,22 +49,57 @@ public class WebSocketAuthorizationInterceptor implements ChannelInterceptor {
             Authentication user = (Authentication) accessor.getUser();
             String destination = accessor.getDestination();
             if (destination != null) {
-                if (destination.startsWith("/user/")) {
+                DestinationMatcher.Match<TopicRule> route = routes.match(destination);
+                if (route == null) {
+                    if (destination.startsWith("/topic/") || destination.startsWith("/queue/")) {
+                        throw new SecurityException("You are not authorized to subscribe to this destination");
+                    }
+                } else if (route.value() == TopicRule.USER) {
                     String userId = user.getName();
                     if (!destination.contains(userId)) {
                         throw new SecurityException("You are not authorized to subscribe to this user's topic");
                     }
-                } else if (destination.startsWith("/topic/board/")) {
-                    String boardIdStr = destination.substring("/topic/board/".length());
-                    UUID boardId = UUID.fromString(boardIdStr);
-                    authorizationSecurityService.canViewBoard(boardId);
-                } else if (destination.startsWith("/topic/workspace/")) {
-                    String workspaceIdStr = destination.substring("/topic/workspace/".length());
-                    UUID workspaceId = UUID.fromString(workspaceIdStr);
-                    authorizationSecurityService.isWorkspaceMember(workspaceId);
+                } else {
+                    UUID userId = user != null && user.getPrincipal() instanceof AppUserDetails userDetails ? userDetails.getUserId() : null;
+                    String sessionId = accessor.getSessionId();
+                    if (userId == null || !subscriptionGrantCache.isGranted(sessionId, userId, destination)) {
+                        authorizeAs(user, () -> authorizeTopic(sessionId, userId, destination, route));
+                    }
                 }
             }
         }
         return message;
     }
+
+    private void authorizeTopic(String sessionId, UUID userId, String destination, DestinationMatcher.Match<TopicRule> route) {
+        UUID scopeId = route.ids().getFirst();
+        if (route.value() == TopicRule.BOARD) {
+            authorizationSecurityService.canViewBoard(scopeId);
+            if (userId != null) {
+                subscriptionGrantCache.grantBoard(sessionId, userId, destination, boardAccessContext.get(scopeId, userId).workspaceId(), scopeId);
+            }
+        } else {
+            authorizationSecurityService.isWorkspaceMember(scopeId);
+            if (userId != null) {
+                subscriptionGrantCache.grantWorkspace(sessionId, userId, destination, scopeId);
+            }
+        }
+    }
+
+    // Inbound STOMP frames run outside the HTTP filter chain, so the checks see the session's principal only for their duration.
+    private void authorizeAs(Authentication user, Runnable check) {
+        SecurityContext previous = SecurityContextHolder.getContext();
+        SecurityContextHolder.setContext(new SecurityContextImpl(user));
+        try {
+            check.run();
+        } finally {
+            SecurityContextHolder.setContext(previous);
+        }
+    }
+
+    private enum TopicRule {
+        USER,
+        BOARD,
+        WORKSPACE
+    }
 }
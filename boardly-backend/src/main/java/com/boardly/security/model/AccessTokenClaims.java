@@ -0,0 +1,6 @@
+package com.boardly.security.model;
+
+import java.util.UUID;
+
+public record AccessTokenClaims(UUID userId, String username, boolean emailVerified) {
+}
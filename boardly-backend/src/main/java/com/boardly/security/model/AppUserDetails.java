@@ -1,34 +1,60 @@
 package com.boardly.security.model;
 
 import com.boardly.data.model.sql.authentication.User;
-import lombok.AllArgsConstructor;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 
 import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Supplier;
 
-@AllArgsConstructor
 public class AppUserDetails implements UserDetails {
 
-    private final User user;
+    private final UUID userId;
+    private final String username;
+    private final boolean emailVerified;
+    private Supplier<User> userLoader;
+    private User user;
+
+    public AppUserDetails(User user) {
+        this.userId = user.getId();
+        this.username = user.getUsername();
+        this.emailVerified = user.isEmailVerified();
+        this.user = user;
+    }
+
+    // Built from access token claims; the User row is only fetched if something asks for it.
+    public AppUserDetails(UUID userId, String username, boolean emailVerified, Supplier<User> userLoader) {
+        this.userId = userId;
+        this.username = username;
+        this.emailVerified = emailVerified;
+        this.userLoader = userLoader;
+    }
 
     @Override
     public String getPassword() {
-        return user.getPasswordHash();
+        return getUser().getPasswordHash();
     }
 
     @Override
     public String getUsername() {
-        return user.getUsername();
+        return username;
     }
 
     public UUID getUserId() {
-        return user.getId();
+        return userId;
+    }
+
+    public boolean isEmailVerified() {
+        return emailVerified;
     }
 
     public User getUser() {
+        if (user == null) {
+            user = userLoader.get();
+            userLoader = null;
+        }
         return user;
     }
 
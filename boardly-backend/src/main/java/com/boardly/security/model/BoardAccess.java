@@ -0,0 +1,89 @@
+package com.boardly.security.model;
+
+import com.boardly.common.enums.BoardCreationSetting;
+import com.boardly.common.enums.BoardRole;
+import com.boardly.common.enums.BoardVisibility;
+import com.boardly.common.enums.WorkspaceRole;
+
+import java.util.UUID;
+
+public record BoardAccess(
+        UUID boardId,
+        UUID workspaceId,
+        BoardVisibility boardVisibility,
+        WorkspaceRole workspaceRole,
+        BoardRole boardRole,
+        BoardCreationSetting privateBoardCreation,
+        BoardCreationSetting workspaceVisibleBoardCreation,
+        int permissions
+) {
+    public BoardAccess(
+            UUID boardId,
+            UUID workspaceId,
+            BoardVisibility boardVisibility,
+            WorkspaceRole workspaceRole,
+            BoardRole boardRole,
+            BoardCreationSetting privateBoardCreation,
+            BoardCreationSetting workspaceVisibleBoardCreation
+    ) {
+        this(boardId, workspaceId, boardVisibility, workspaceRole, boardRole, privateBoardCreation, workspaceVisibleBoardCreation,
+                permissionsOf(boardVisibility, workspaceRole, boardRole, privateBoardCreation, workspaceVisibleBoardCreation));
+    }
+
+    public boolean has(BoardPermission permission) {
+        return (permissions & permission.bit()) != 0;
+    }
+
+    public boolean isWorkspaceMember() {
+        return workspaceRole != null;
+    }
+
+    public boolean isWorkspaceAdmin() {
+        return workspaceRole == WorkspaceRole.OWNER || workspaceRole == WorkspaceRole.ADMIN;
+    }
+
+    public boolean isBoardMember() {
+        return boardRole != null;
+    }
+
+    private static int permissionsOf(
+            BoardVisibility boardVisibility,
+            WorkspaceRole workspaceRole,
+            BoardRole boardRole,
+            BoardCreationSetting privateBoardCreation,
+            BoardCreationSetting workspaceVisibleBoardCreation
+    ) {
+        boolean boardMember = boardRole != null;
+        if (workspaceRole == WorkspaceRole.OWNER || workspaceRole == WorkspaceRole.ADMIN) {
+            int all = BoardPermission.VIEW.bit() | BoardPermission.EDIT_CONTENT.bit() | BoardPermission.MANAGE.bit()
+                    | BoardPermission.JOIN.bit() | BoardPermission.SET_PRIVATE.bit() | BoardPermission.SET_WORKSPACE_VISIBLE.bit();
+            return boardMember ? all | BoardPermission.LEAVE.bit() : all;
+        }
+
+        int permissions = 0;
+        if (boardMember) {
+            permissions |= BoardPermission.VIEW.bit() | BoardPermission.LEAVE.bit();
+        }
+        if (workspaceRole == null) {
+            return permissions;
+        }
+
+        boolean workspaceVisible = boardVisibility == BoardVisibility.WORKSPACE;
+        if (workspaceVisible && workspaceRole != WorkspaceRole.GUEST) {
+            permissions |= BoardPermission.VIEW.bit() | BoardPermission.JOIN.bit();
+        }
+        if (boardMember && boardRole != BoardRole.OBSERVER) {
+            permissions |= BoardPermission.EDIT_CONTENT.bit();
+        }
+        if (boardRole == BoardRole.ADMIN) {
+            permissions |= BoardPermission.MANAGE.bit();
+            if (privateBoardCreation != BoardCreationSetting.ADMINS_ONLY) {
+                permissions |= BoardPermission.SET_PRIVATE.bit();
+            }
+            if (workspaceVisibleBoardCreation != BoardCreationSetting.ADMINS_ONLY) {
+                permissions |= BoardPermission.SET_WORKSPACE_VISIBLE.bit();
+            }
+        }
+        return permissions;
+    }
+}
@@ -0,0 +1,15 @@
+package com.boardly.security.model;
+
+public enum BoardPermission {
+    VIEW,
+    EDIT_CONTENT,
+    MANAGE,
+    JOIN,
+    LEAVE,
+    SET_PRIVATE,
+    SET_WORKSPACE_VISIBLE;
+
+    public int bit() {
+        return 1 << ordinal();
+    }
+}
@@ -2,22 +2,36 @@ package com.boardly.security.service;
 
 import com.boardly.data.model.sql.authentication.User;
 import com.boardly.data.repository.UserRepository;
+import com.boardly.security.model.AccessTokenClaims;
 import com.boardly.security.model.AppUserDetails;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
 import java.util.UUID;
 
 @Service
 public class CustomUserDetailsService implements UserDetailsService {
     private final UserRepository userRepository;
+    private final Cache<UUID, User> userCache;
 
     @Autowired
-    public CustomUserDetailsService(UserRepository userRepository) {
+    public CustomUserDetailsService(
+            UserRepository userRepository,
+            @Value("${app.user-cache.max-size:10000}") long maxSize,
+            @Value("${app.user-cache.expire-after-write:0s}") Duration expireAfterWrite
+    ) {
         this.userRepository = userRepository;
+        this.userCache = expireAfterWrite.isZero() ? null : Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(expireAfterWrite)
+                .build();
     }
 
     @Override
@@ -28,8 +42,32 @@ public class CustomUserDetailsService implements UserDetailsService {
     }
 
     public UserDetails loadUserById(UUID userId) throws UsernameNotFoundException {
-        User user = userRepository.findById(userId)
+        return new AppUserDetails(loadUser(userId));
+    }
+
+    public UserDetails loadUserFromClaims(AccessTokenClaims claims) throws UsernameNotFoundException {
+        // Tokens issued before the username claim existed still need the row.
+        if (claims.username() == null) {
+            return loadUserById(claims.userId());
+        }
+        return new AppUserDetails(claims.userId(), claims.username(), claims.emailVerified(), () -> loadUser(claims.userId()));
+    }
+
+    public void evictUser(UUID userId) {
+        if (userCache != null) {
+            userCache.invalidate(userId);
+        }
+    }
+
+    private User loadUser(UUID userId) {
+        if (userCache == null) {
+            return findUser(userId);
+        }
+        return userCache.get(userId, this::findUser);
+    }
+
+    private User findUser(UUID userId) {
+        return userRepository.findById(userId)
                 .orElseThrow(() -> new UsernameNotFoundException(""));
-        return new AppUserDetails(user);
     }
 }
@@ -1,6 +1,11 @@
 package com.boardly.security.service;
 
+import com.boardly.data.model.sql.authentication.User;
 import com.boardly.exception.TokenExpiredException;
+import com.boardly.security.model.AccessTokenClaims;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.security.Keys;
 import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Value;
@@ -9,7 +14,11 @@ import org.springframework.stereotype.Service;
 import io.jsonwebtoken.*;
 
 import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.security.SecureRandom;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.Base64;
 import java.util.Date;
@@ -27,20 +36,38 @@ public class JWTFilterService {
     @Value("${jwt.refresh_token_expiration}")
     private Long refreshTokenExpirationTime; // In ms
 
+    @Value("${jwt.verified-token-cache.max-size:10000}")
+    private long verifiedTokenCacheSize;
+
     private static final SecureRandom secureRandom = new SecureRandom();
 
+    private static final String USERNAME_CLAIM = "username";
+    private static final String EMAIL_VERIFIED_CLAIM = "email_verified";
+
 
     private SecretKey secretKey;
+    private JwtParser parser;
+    private Cache<String, VerifiedToken> verifiedTokens;
 
     @PostConstruct
     public void init() {
         this.secretKey = Keys.hmacShaKeyFor(jwtSecret.getBytes());
+        this.parser = Jwts.parser()
+                .verifyWith(secretKey)
+                .build();
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(verifiedTokenCacheSize)
+                .expireAfter(Expiry.<String, VerifiedToken>creating((hash, token) ->
+                        Duration.between(Instant.now(), token.expiresAt())))
+                .build();
     }
 
-    public String generateToken(UUID userId) {
+    public String generateToken(User user) {
         Instant now = Instant.now();
         return Jwts.builder()
-                .subject(userId.toString())
+                .subject(user.getId().toString())
+                .claim(USERNAME_CLAIM, user.getUsername())
+                .claim(EMAIL_VERIFIED_CLAIM, user.isEmailVerified())
                 .issuedAt(Date.from(now))
                 .expiration(Date.from(now.plusMillis(accessTokenExpirationTime)))
                 .signWith(secretKey)
@@ -57,18 +84,44 @@ public class JWTFilterService {
         return Instant.now().plusMillis(accessTokenExpirationTime).getEpochSecond();
     }
 
-    public Optional<UUID> validateToken(String token) {
+    public Optional<AccessTokenClaims> validateToken(String token) {
+        // Keyed by digest so raw bearer tokens never sit on the heap longer than the request.
+        String hash = hash(token);
+        VerifiedToken verified = verifiedTokens.getIfPresent(hash);
+        if (verified != null) {
+            if (!verified.expiresAt().isAfter(Instant.now())) {
+                verifiedTokens.invalidate(hash);
+                throw new TokenExpiredException("Token has expired");
+            }
+            return Optional.of(verified.claims());
+        }
         try {
-            Claims claims = Jwts.parser()
-                    .verifyWith(secretKey)
-                    .build()
-                    .parseSignedClaims(token)
-                    .getPayload();
-            return Optional.of(UUID.fromString(claims.getSubject()));
+            Claims claims = parser.parseSignedClaims(token).getPayload();
+            AccessTokenClaims accessTokenClaims = new AccessTokenClaims(
+                    UUID.fromString(claims.getSubject()),
+                    claims.get(USERNAME_CLAIM, String.class),
+                    Boolean.TRUE.equals(claims.get(EMAIL_VERIFIED_CLAIM, Boolean.class))
+            );
+            if (claims.getExpiration() != null) {
+                verifiedTokens.put(hash, new VerifiedToken(accessTokenClaims, claims.getExpiration().toInstant()));
+            }
+            return Optional.of(accessTokenClaims);
         } catch (ExpiredJwtException e) {
             throw new TokenExpiredException("Token has expired");
         } catch (JwtException e) {
             return Optional.empty();
         }
     }
+
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private record VerifiedToken(AccessTokenClaims claims, Instant expiresAt) {
+    }
 }
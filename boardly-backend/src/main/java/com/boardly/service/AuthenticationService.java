@@ -11,6 +11,7 @@ import com.boardly.data.repository.UserRepository;
 import com.boardly.exception.FieldsValidationException;
 import com.boardly.exception.ResourceNotFoundException;
 import com.boardly.security.model.AppUserDetails;
+import com.boardly.security.service.CustomUserDetailsService;
 import com.boardly.security.service.JWTFilterService;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.transaction.Transactional;
@@ -35,10 +36,11 @@ public class AuthenticationService {
     private final PasswordEncoder passwordEncoder;
     private final EmailService emailService;
     private final SecureTokenRepository secureTokenRepository;
+    private final CustomUserDetailsService customUserDetailsService;
     private static final Logger logger = LoggerFactory.getLogger(AuthenticationService.class);
 
     @Autowired
-    public AuthenticationService(UserRepository userRepository, UserDeviceRepository userDeviceRepository, AuthenticationManager authenticationManager, JWTFilterService jwtFilterService, UserDeviceService userDeviceService, PasswordEncoder passwordEncoder, EmailService emailService, SecureTokenRepository secureTokenRepository) {
+    public AuthenticationService(UserRepository userRepository, UserDeviceRepository userDeviceRepository, AuthenticationManager authenticationManager, JWTFilterService jwtFilterService, UserDeviceService userDeviceService, PasswordEncoder passwordEncoder, EmailService emailService, SecureTokenRepository secureTokenRepository, CustomUserDetailsService customUserDetailsService) {
         this.userRepository = userRepository;
         this.authenticationManager = authenticationManager;
         this.jwtFilterService = jwtFilterService;
@@ -46,6 +48,7 @@ public class AuthenticationService {
         this.passwordEncoder = passwordEncoder;
         this.emailService = emailService;
         this.secureTokenRepository = secureTokenRepository;
+        this.customUserDetailsService = customUserDetailsService;
     }
 
     @Transactional
@@ -94,7 +97,7 @@ public class AuthenticationService {
         UUID userId = userDetails.getUserId();
         User user = userDetails.getUser();
 
-        String accessToken = jwtFilterService.generateToken(userId);
+        String accessToken = jwtFilterService.generateToken(user);
         String refreshToken = jwtFilterService.generateRefreshToken(userId);
         long expiresAt = jwtFilterService.getAccessTokenExpirationFromNow();
 
@@ -110,7 +113,7 @@ public class AuthenticationService {
         UserDevice userDevice = userDeviceService.findAndVerifyRefreshToken(request.getRefreshToken());
         User user = userDevice.getUser();
 
-        String newAccessToken = jwtFilterService.generateToken(user.getId());
+        String newAccessToken = jwtFilterService.generateToken(user);
         String newRefreshToken = jwtFilterService.generateRefreshToken(user.getId());
         long expiresAt = jwtFilterService.getAccessTokenExpirationFromNow();
 
@@ -163,6 +166,7 @@ public class AuthenticationService {
         User user = secureToken.getUser();
         user.setEmailVerified(true);
         userRepository.save(user);
+        customUserDetailsService.evictUser(user.getId());
         logger.info("Email verified successfully for user: {}", user.getUsername());
 
         secureTokenRepository.deleteAllByUserAndTokenType(user, TokenType.EMAIL_VERIFICATION);
@@ -203,6 +207,7 @@ public class AuthenticationService {
         user.setPasswordHash(passwordEncoder.encode(request.getNewPassword()));
         secureTokenRepository.deleteAllByUserAndTokenType(user, TokenType.PASSWORD_RESET);
         userRepository.save(user);
+        customUserDetailsService.evictUser(user.getId());
         logger.info("Password reset successfully for user: {}", user.getUsername());
     }
 
@@ -219,6 +224,7 @@ public class AuthenticationService {
         }
         currentUser.setPasswordHash(passwordEncoder.encode(request.getNewPassword()));
         userRepository.save(currentUser);
+        customUserDetailsService.evictUser(currentUser.getId());
         logger.info("Password changed successfully for user: {}", appUserDetails.getUsername());
     }
 }
@@ -4,21 +4,19 @@ import com.boardly.common.enums.BoardCreationSetting;
 import com.boardly.common.enums.BoardRole;
 import com.boardly.common.enums.BoardVisibility;
 import com.boardly.common.enums.WorkspaceRole;
-import com.boardly.data.model.sql.board.Board;
 import com.boardly.data.model.sql.workspace.Workspace;
-import com.boardly.data.repository.BoardMemberRepository;
-import com.boardly.data.repository.BoardRepository;
 import com.boardly.data.repository.WorkspaceMemberRepository;
 import com.boardly.data.repository.WorkspaceRepository;
 import com.boardly.exception.ForbiddenException;
 import com.boardly.exception.ResourceNotFoundException;
 import com.boardly.exception.UnauthorizedException;
 import com.boardly.security.model.AppUserDetails;
+import com.boardly.security.model.BoardAccess;
+import com.boardly.security.model.BoardPermission;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 
-import java.util.Optional;
 import java.util.UUID;
 
 @Service
@@ -26,19 +24,16 @@ public class AuthorizationSecurityService {
 
     private final WorkspaceMemberRepository workspaceMemberRepository;
     private final WorkspaceRepository workspaceRepository;
-    private final BoardMemberRepository boardMemberRepository;
-    private final BoardRepository boardRepository;
+    private final BoardAccessContext boardAccessContext;
 
     public AuthorizationSecurityService(
             WorkspaceMemberRepository workspaceMemberRepository,
             WorkspaceRepository workspaceRepository,
-            BoardMemberRepository boardMemberRepository,
-            BoardRepository boardRepository
+            BoardAccessContext boardAccessContext
     ) {
         this.workspaceMemberRepository = workspaceMemberRepository;
         this.workspaceRepository = workspaceRepository;
-        this.boardMemberRepository = boardMemberRepository;
-        this.boardRepository = boardRepository;
+        this.boardAccessContext = boardAccessContext;
     }
 
     private UUID getCurrentUserId() {
@@ -133,117 +128,81 @@ public class AuthorizationSecurityService {
         return true;
     }
 
-    private BoardRole getCurrentUserBoardRole(UUID boardId) {
-        return boardMemberRepository
-                .findRoleByBoardIdAndUserId(boardId, getCurrentUserId())
-                .orElseThrow(() -> new ForbiddenException("You are not a member of this board."));
+    private BoardAccess getCurrentUserBoardAccess(UUID boardId) {
+        return boardAccessContext.get(boardId, getCurrentUserId());
     }
 
-    public boolean isBoardMember(UUID boardId) {
-        return boardMemberRepository.existsByBoard_IdAndUser_Id(boardId, getCurrentUserId());
+    private void requireWorkspaceMember(BoardAccess access) {
+        if (!access.isWorkspaceMember()) {
+            throw new ForbiddenException("Workspace not found or you are not a member of this workspace.");
+        }
     }
 
-    public boolean canDeleteBoard(UUID boardId) {
-        Board board = boardRepository.findById(boardId)
-                .orElseThrow(() -> new ResourceNotFoundException("Board not found."));
-        UUID workspaceId = board.getWorkspace().getId();
-        WorkspaceRole workspaceRole = getCurrentUserWorkspaceRole(workspaceId);
-        if (workspaceRole == WorkspaceRole.OWNER || workspaceRole == WorkspaceRole.ADMIN) {
-            return true;
+    private void requireBoardMember(BoardAccess access) {
+        if (!access.isBoardMember()) {
+            throw new ForbiddenException("You are not a member of this board.");
         }
+    }
 
-        Optional<BoardRole> boardRole =
-                boardMemberRepository.findRoleByBoardIdAndUserId(boardId, getCurrentUserId());
+    public boolean isBoardMember(UUID boardId) {
+        return getCurrentUserBoardAccess(boardId).isBoardMember();
+    }
 
-        if (boardRole.isPresent() && boardRole.get() == BoardRole.ADMIN) {
+    public boolean canDeleteBoard(UUID boardId) {
+        BoardAccess access = getCurrentUserBoardAccess(boardId);
+        if (access.has(BoardPermission.MANAGE)) {
             return true;
         }
-
+        requireWorkspaceMember(access);
         throw new ForbiddenException("You are not allowed to delete this board.");
     }
 
     public boolean canViewBoard(UUID boardId) {
-        Board board = boardRepository.findById(boardId)
-                .orElseThrow(() -> new ResourceNotFoundException("Board not found."));
-
-        Workspace workspace = board.getWorkspace();
-        UUID workspaceId = workspace.getId();
-
-        if (isBoardMember(boardId)) {
-            return true;
-        }
-
-        WorkspaceRole workspaceRole = getCurrentUserWorkspaceRole(workspaceId);
-        if (workspaceRole == WorkspaceRole.OWNER || workspaceRole == WorkspaceRole.ADMIN) {
-            return true;
-        }
-
-        if (board.getBoardVisibility() == BoardVisibility.WORKSPACE
-                && workspaceRole != WorkspaceRole.GUEST) {
+        BoardAccess access = getCurrentUserBoardAccess(boardId);
+        if (access.has(BoardPermission.VIEW)) {
             return true;
         }
-
+        requireWorkspaceMember(access);
         throw new ForbiddenException("You are not allowed to view this board.");
     }
 
     public boolean canEditBoardContent(UUID boardId) {
-        Board board = boardRepository.findById(boardId)
-                .orElseThrow(() -> new ResourceNotFoundException("Board not found."));
-        UUID workspaceId = board.getWorkspace().getId();
-        WorkspaceRole workspaceRole = getCurrentUserWorkspaceRole(workspaceId);
-        if (workspaceRole == WorkspaceRole.OWNER || workspaceRole == WorkspaceRole.ADMIN) {
+        BoardAccess access = getCurrentUserBoardAccess(boardId);
+        if (access.has(BoardPermission.EDIT_CONTENT)) {
             return true;
         }
-        BoardRole boardRole = getCurrentUserBoardRole(boardId);
-        if (boardRole == BoardRole.OBSERVER) {
-            throw new ForbiddenException("You are not allowed to edit board content.");
-        }
-        return true;
+        requireWorkspaceMember(access);
+        requireBoardMember(access);
+        throw new ForbiddenException("You are not allowed to edit board content.");
     }
 
     public boolean canEditBoard(UUID boardId) {
-        Board board = boardRepository.findById(boardId)
-                .orElseThrow(() -> new ResourceNotFoundException("Board not found."));
-        UUID workspaceId = board.getWorkspace().getId();
-        WorkspaceRole workspaceRole = getCurrentUserWorkspaceRole(workspaceId);
-        if (workspaceRole == WorkspaceRole.OWNER || workspaceRole == WorkspaceRole.ADMIN) {
+        BoardAccess access = getCurrentUserBoardAccess(boardId);
+        if (access.has(BoardPermission.MANAGE)) {
             return true;
         }
-
-        Optional<BoardRole> boardRole =
-                boardMemberRepository.findRoleByBoardIdAndUserId(boardId, getCurrentUserId());
-
-        if (boardRole.isPresent() && boardRole.get() == BoardRole.ADMIN) {
-            return true;
-        }
-
+        requireWorkspaceMember(access);
         throw new ForbiddenException("You are not allowed to edit board.");
     }
 
     public boolean canChangeBoardVisibility(UUID boardId, BoardVisibility newVisibility) {
-        Board board = boardRepository.findById(boardId)
-                .orElseThrow(() -> new ResourceNotFoundException("Board not found."));
-        UUID workspaceId = board.getWorkspace().getId();
-        WorkspaceRole workspaceRole = getCurrentUserWorkspaceRole(workspaceId);
-        if (workspaceRole == WorkspaceRole.OWNER || workspaceRole == WorkspaceRole.ADMIN) {
+        BoardAccess access = getCurrentUserBoardAccess(boardId);
+        boolean toPrivate = newVisibility == BoardVisibility.PRIVATE;
+        if (access.has(toPrivate ? BoardPermission.SET_PRIVATE : BoardPermission.SET_WORKSPACE_VISIBLE)) {
             return true;
         }
-        Workspace workspace = workspaceRepository.findById(workspaceId)
-                .orElseThrow(() -> new ResourceNotFoundException("Workspace not found."));
-        if (newVisibility == BoardVisibility.PRIVATE) {
-            if (workspace.getBoardCreationSettings().getPrivateBoardCreation() == BoardCreationSetting.ADMINS_ONLY) {
+        requireWorkspaceMember(access);
+        if (toPrivate) {
+            if (access.privateBoardCreation() == BoardCreationSetting.ADMINS_ONLY) {
                 throw new ForbiddenException("You are not allowed to change board visibility to private in this workspace.");
             }
         } else {
-            if (workspace.getBoardCreationSettings().getWorkspaceVisibleBoardCreation() == BoardCreationSetting.ADMINS_ONLY) {
+            if (access.workspaceVisibleBoardCreation() == BoardCreationSetting.ADMINS_ONLY) {
                 throw new ForbiddenException("You are not allowed to change board visibility to workspace-visible in this workspace.");
             }
         }
-        BoardRole boardRole = getCurrentUserBoardRole(boardId);
-        if (boardRole != BoardRole.ADMIN) {
-            throw new ForbiddenException("You are not allowed to change board visibility.");
-        }
-        return true;
+        requireBoardMember(access);
+        throw new ForbiddenException("You are not allowed to change board visibility.");
     }
 
 
@@ -252,27 +211,16 @@ public class AuthorizationSecurityService {
     }
 
     public boolean canJoinBoard(UUID boardId) {
-        Board board = boardRepository.findById(boardId)
-                .orElseThrow(() -> new ResourceNotFoundException("Board not found."));
-        UUID workspaceId = board.getWorkspace().getId();
-        WorkspaceRole workspaceRole = getCurrentUserWorkspaceRole(workspaceId);
-        if (workspaceRole == WorkspaceRole.OWNER || workspaceRole == WorkspaceRole.ADMIN) {
-            return true;
-        }
-
-        if (workspaceRole == WorkspaceRole.GUEST) {
-            throw new ForbiddenException("You are not allowed to join this board.");
-        }
-
-        if (board.getBoardVisibility() == BoardVisibility.WORKSPACE) {
+        BoardAccess access = getCurrentUserBoardAccess(boardId);
+        if (access.has(BoardPermission.JOIN)) {
             return true;
         }
-
+        requireWorkspaceMember(access);
         throw new ForbiddenException("You are not allowed to join this board.");
     }
 
     public boolean canLeaveBoard(UUID boardId) {
-        if (!isBoardMember(boardId)) {
+        if (!getCurrentUserBoardAccess(boardId).has(BoardPermission.LEAVE)) {
             throw new ForbiddenException("You are not a member of this board.");
         }
         return true;
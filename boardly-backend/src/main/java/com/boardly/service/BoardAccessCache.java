@@ -0,0 +1,71 @@
+package com.boardly.service;
+
+import com.boardly.common.event.BoardAccessChangedEvent;
+import com.boardly.data.repository.BoardMemberRepository;
+import com.boardly.exception.ResourceNotFoundException;
+import com.boardly.security.model.BoardAccess;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.UUID;
+
+@Service
+public class BoardAccessCache {
+    private final BoardMemberRepository boardMemberRepository;
+    private final Cache<Key, BoardAccess> cache;
+
+    public BoardAccessCache(
+            BoardMemberRepository boardMemberRepository,
+            MeterRegistry meterRegistry,
+            CacheInvalidationRelay cacheInvalidationRelay,
+            @Value("${app.board-access-cache.max-size:50000}") long maxSize,
+            @Value("${app.board-access-cache.expire-after-write:10m}") Duration expireAfterWrite
+    ) {
+        this.boardMemberRepository = boardMemberRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "boardAccess");
+        cacheInvalidationRelay.onRemoteInvalidation(invalidation -> {
+            if (invalidation.accessChange() != null) {
+                onBoardAccessChanged(invalidation.accessChange());
+            }
+        });
+    }
+
+    public BoardAccess get(UUID boardId, UUID userId) {
+        return cache.get(new Key(userId, boardId), key -> boardMemberRepository.resolveBoardAccess(key.boardId(), key.userId())
+                .orElseThrow(() -> new ResourceNotFoundException("Board not found.")));
+    }
+
+    // Evicting after commit keeps a concurrent request from re-caching the pre-change row.
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBoardAccessChanged(BoardAccessChangedEvent event) {
+        if (event.boardId() != null && event.userId() != null) {
+            cache.invalidate(new Key(event.userId(), event.boardId()));
+            return;
+        }
+        cache.asMap().entrySet().removeIf(entry -> matches(event, entry.getKey(), entry.getValue()));
+    }
+
+    private boolean matches(BoardAccessChangedEvent event, Key key, BoardAccess access) {
+        if (event.userId() != null && !event.userId().equals(key.userId())) {
+            return false;
+        }
+        if (event.boardId() != null) {
+            return event.boardId().equals(key.boardId());
+        }
+        return event.workspaceId() != null && event.workspaceId().equals(access.workspaceId());
+    }
+
+    private record Key(UUID userId, UUID boardId) {
+    }
+}
@@ -0,0 +1,36 @@
+package com.boardly.service;
+
+import com.boardly.security.model.BoardAccess;
+import org.springframework.stereotype.Service;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+@Service
+public class BoardAccessContext {
+    private static final String ATTRIBUTE = BoardAccessContext.class.getName() + ".resolved";
+
+    private final BoardAccessCache boardAccessCache;
+
+    public BoardAccessContext(BoardAccessCache boardAccessCache) {
+        this.boardAccessCache = boardAccessCache;
+    }
+
+    // Memoized on the current HTTP request; STOMP frames have no request attributes and go straight to the shared cache.
+    public BoardAccess get(UUID boardId, UUID userId) {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return boardAccessCache.get(boardId, userId);
+        }
+        @SuppressWarnings("unchecked")
+        Map<UUID, BoardAccess> resolved = (Map<UUID, BoardAccess>) attributes.getAttribute(ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (resolved == null) {
+            resolved = new HashMap<>();
+            attributes.setAttribute(ATTRIBUTE, resolved, RequestAttributes.SCOPE_REQUEST);
+        }
+        return resolved.computeIfAbsent(boardId, id -> boardAccessCache.get(id, userId));
+    }
+}
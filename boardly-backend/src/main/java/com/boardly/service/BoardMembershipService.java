@@ -4,6 +4,7 @@ import com.boardly.common.dto.board.*;
 import com.boardly.common.enums.BoardRole;
 import com.boardly.common.enums.InviteStatus;
 import com.boardly.common.enums.WorkspaceRole;
+import com.boardly.common.event.BoardAccessChangedEvent;
 import com.boardly.data.mapper.UserMapper;
 import com.boardly.data.model.sql.authentication.User;
 import com.boardly.data.model.sql.board.Board;
@@ -16,6 +17,7 @@ import com.boardly.exception.ForbiddenException;
 import com.boardly.exception.ResourceNotFoundException;
 import com.boardly.security.model.AppUserDetails;
 import jakarta.transaction.Transactional;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 import java.time.Instant;
@@ -34,8 +36,10 @@ public class BoardMembershipService {
     private final BoardInviteRepository boardInviteRepository;
     private final UserMapper userMapper;
     private final NotificationService notificationService;
+    private final BoardAccessContext boardAccessContext;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public BoardMembershipService(BoardRepository boardRepository, BoardMemberRepository boardMemberRepository, UserRepository userRepository, WorkspaceMemberRepository workspaceMemberRepository, BoardInviteRepository boardInviteRepository, UserMapper userMapper, NotificationService notificationService) {
+    public BoardMembershipService(BoardRepository boardRepository, BoardMemberRepository boardMemberRepository, UserRepository userRepository, WorkspaceMemberRepository workspaceMemberRepository, BoardInviteRepository boardInviteRepository, UserMapper userMapper, NotificationService notificationService, BoardAccessContext boardAccessContext, ApplicationEventPublisher eventPublisher) {
         this.boardRepository = boardRepository;
         this.boardMemberRepository = boardMemberRepository;
         this.userRepository = userRepository;
@@ -43,6 +47,8 @@ public class BoardMembershipService {
         this.boardInviteRepository = boardInviteRepository;
         this.userMapper = userMapper;
         this.notificationService = notificationService;
+        this.boardAccessContext = boardAccessContext;
+        this.eventPublisher = eventPublisher;
     }
 
     @Transactional
@@ -50,7 +56,7 @@ public class BoardMembershipService {
         Board board = boardRepository.findById(boardId)
                 .orElseThrow(() -> new ResourceNotFoundException("Board not found"));
 
-        if (boardMemberRepository.existsByBoard_IdAndUser_Id(boardId, appUserDetails.getUserId())) {
+        if (boardAccessContext.get(boardId, appUserDetails.getUserId()).isBoardMember()) {
             throw new BadRequestException("You are already a member of this board");
         }
 
@@ -60,6 +66,7 @@ public class BoardMembershipService {
         newMember.setRole(BoardRole.MEMBER);
 
         boardMemberRepository.save(newMember);
+        eventPublisher.publishEvent(BoardAccessChangedEvent.boardMember(boardId, appUserDetails.getUserId()));
         notificationService.sendToTopic("/topic/board/" + boardId, "User " + appUserDetails.getUsername() + " joined the board");
     }
 
@@ -81,9 +88,11 @@ public class BoardMembershipService {
         if (workspaceMemberRepository.existsByWorkspace_IdAndUser_IdAndRole(member.getBoard().getWorkspace().getId(), appUserDetails.getUserId(), WorkspaceRole.GUEST)) {
             if (boardMemberRepository.countByWorkspace_IdAndUser_Id(member.getBoard().getWorkspace().getId(), appUserDetails.getUserId()) <= 1) {
                 workspaceMemberRepository.deleteByWorkspace_IdAndUser_Id(member.getBoard().getWorkspace().getId(), appUserDetails.getUserId());
+                eventPublisher.publishEvent(BoardAccessChangedEvent.workspaceMember(member.getBoard().getWorkspace().getId(), userId));
             }
         }
         boardMemberRepository.delete(member);
+        eventPublisher.publishEvent(BoardAccessChangedEvent.boardMember(boardId, userId));
         notificationService.sendToTopic("/topic/board/" + boardId, Map.of("type", "USER_LEFT", "userId", userId));
         notificationService.sendToUser(userId, "/queue/access-revoked", Map.of("boardId", boardId));
     }
@@ -104,9 +113,11 @@ public class BoardMembershipService {
         if (workspaceMemberRepository.existsByWorkspace_IdAndUser_IdAndRole(memberToRemove.getBoard().getWorkspace().getId(), memberToRemove.getId(), WorkspaceRole.GUEST)) {
             if (boardMemberRepository.countByWorkspace_IdAndUser_Id(memberToRemove.getBoard().getWorkspace().getId(), memberToRemove.getUser().getId()) <= 1) {
                 workspaceMemberRepository.deleteByWorkspace_IdAndUser_Id(memberToRemove.getBoard().getWorkspace().getId(), memberToRemove.getUser().getId());
+                eventPublisher.publishEvent(BoardAccessChangedEvent.workspaceMember(memberToRemove.getBoard().getWorkspace().getId(), memberId));
             }
         }
         boardMemberRepository.delete(memberToRemove);
+        eventPublisher.publishEvent(BoardAccessChangedEvent.boardMember(boardId, memberId));
         notificationService.sendToTopic("/topic/board/" + boardId, Map.of("type", "USER_REMOVED", "userId", memberId));
         notificationService.sendToUser(memberId, "/queue/access-revoked", Map.of("boardId", boardId));
     }
@@ -124,6 +135,7 @@ public class BoardMembershipService {
         }
         targetMember.setRole(newRole);
         boardMemberRepository.save(targetMember);
+        eventPublisher.publishEvent(BoardAccessChangedEvent.boardMember(boardId, memberId));
         notificationService.sendToUser(memberId, "/queue/board", "Your role in the board has been changed to " + newRole);
         notificationService.sendToTopic("/topic/board/" + boardId, "User " + targetMember.getUser().getUsername() + "'s role has been changed to " + newRole);
     }
@@ -160,6 +172,7 @@ public class BoardMembershipService {
         newMember.setUser(user);
         newMember.setRole(BoardRole.MEMBER);
         boardMemberRepository.save(newMember);
+        eventPublisher.publishEvent(BoardAccessChangedEvent.boardMember(boardId, userId));
 
         notificationService.sendToUser(userId, "/queue/board", "You have been added to the board");
         notificationService.sendToTopic("/topic/board/" + boardId, "User " + user.getUsername() + " has been added to the board");
@@ -195,6 +208,7 @@ public class BoardMembershipService {
             newMember.setUser(userToInvite);
             newMember.setRole(BoardRole.MEMBER);
             boardMemberRepository.save(newMember);
+            eventPublisher.publishEvent(BoardAccessChangedEvent.boardMember(boardId, userToInvite.getId()));
             notificationService.sendToUser(userToInvite.getId(), "/queue/board", "You have been added to the board");
             notificationService.sendToTopic("/topic/board/" + boardId, "User " + userToInvite.getUsername() + " has been added to the board");
             return new BoardInviteDTO(
@@ -277,6 +291,7 @@ public class BoardMembershipService {
         newMember.setUser(invite.getInvitee());
         newMember.setRole(BoardRole.MEMBER);
         boardMemberRepository.save(newMember);
+        eventPublisher.publishEvent(BoardAccessChangedEvent.boardMember(invite.getBoard().getId(), appUserDetails.getUserId()));
 
         if (!workspaceMemberRepository.existsByWorkspaceAndUser(invite.getBoard().getWorkspace(), invite.getInvitee())) {
             WorkspaceMember newWorkspaceMember = new WorkspaceMember();
@@ -284,6 +299,7 @@ public class BoardMembershipService {
             newWorkspaceMember.setUser(invite.getInvitee());
             newWorkspaceMember.setRole(WorkspaceRole.GUEST);
             workspaceMemberRepository.save(newWorkspaceMember);
+            eventPublisher.publishEvent(BoardAccessChangedEvent.workspaceMember(invite.getBoard().getWorkspace().getId(), appUserDetails.getUserId()));
         }
 
         invite.setStatus(InviteStatus.ACCEPTED);
@@ -6,6 +6,7 @@ import com.boardly.common.dto.board.BoardDTO;
 import com.boardly.common.dto.board.BoardEditRequestDTO;
 import com.boardly.common.dto.workspace.WorkspaceDTO;
 import com.boardly.common.enums.BoardRole;
+import com.boardly.common.event.BoardAccessChangedEvent;
 import com.boardly.data.mapper.BoardMapper;
 import com.boardly.data.mapper.WorkspaceMapper;
 import com.boardly.data.model.sql.board.Board;
@@ -15,6 +16,7 @@ import com.boardly.data.repository.*;
 import com.boardly.exception.ResourceNotFoundException;
 import com.boardly.security.model.AppUserDetails;
 import jakarta.transaction.Transactional;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -30,8 +32,10 @@ public class BoardService {
     private final WorkspaceMapper workspaceMapper;
     private final KanbanBoardService kanbanBoardService;
     private final NotificationService notificationService;
+    private final BoardAccessContext boardAccessContext;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public BoardService(BoardRepository boardRepository, BoardMemberRepository boardMemberRepository, WorkspaceMemberRepository workspaceMemberRepository, BoardMapper boardMapper, WorkspaceRepository workspaceRepository, WorkspaceMapper workspaceMapper, KanbanBoardService kanbanBoardService, NotificationService notificationService) {
+    public BoardService(BoardRepository boardRepository, BoardMemberRepository boardMemberRepository, WorkspaceMemberRepository workspaceMemberRepository, BoardMapper boardMapper, WorkspaceRepository workspaceRepository, WorkspaceMapper workspaceMapper, KanbanBoardService kanbanBoardService, NotificationService notificationService, BoardAccessContext boardAccessContext, ApplicationEventPublisher eventPublisher) {
         this.boardRepository = boardRepository;
         this.boardMemberRepository = boardMemberRepository;
         this.workspaceMemberRepository = workspaceMemberRepository;
@@ -40,6 +44,8 @@ public class BoardService {
         this.workspaceMapper = workspaceMapper;
         this.kanbanBoardService = kanbanBoardService;
         this.notificationService = notificationService;
+        this.boardAccessContext = boardAccessContext;
+        this.eventPublisher = eventPublisher;
     }
 
     @Transactional
@@ -57,7 +63,7 @@ public class BoardService {
         boardMember.setRole(BoardRole.ADMIN);
         boardMemberRepository.save(boardMember);
 
-        WorkspaceDTO workspaceDTO = workspaceRepository.findWorkspaceDTOByWorkspaceAndUser(board.getWorkspace(), appUserDetails.getUser()).orElseThrow(() -> new ResourceNotFoundException("Workspace doesnt exist or user is not a member of the workspace"));
+        WorkspaceDTO workspaceDTO = workspaceRepository.findWorkspaceDTOByWorkspaceAndUserId(board.getWorkspace(), appUserDetails.getUserId()).orElseThrow(() -> new ResourceNotFoundException("Workspace doesnt exist or user is not a member of the workspace"));
 
         kanbanBoardService.createBoard(savedBoard.getId());
 
@@ -69,6 +75,7 @@ public class BoardService {
         Board board = boardRepository.findById(boardId)
                 .orElseThrow(() -> new ResourceNotFoundException("Board not found"));
         boardRepository.delete(board);
+        eventPublisher.publishEvent(BoardAccessChangedEvent.board(boardId));
         kanbanBoardService.deleteBoard(boardId);
         notificationService.sendToTopic("/topic/board/" + boardId, "Board deleted");
     }
@@ -77,10 +84,12 @@ public class BoardService {
         Board board = boardRepository.findById(boardId)
                 .orElseThrow(() -> new ResourceNotFoundException("Board not found"));
 
-        BoardRole boardRole = boardMemberRepository.findRoleByBoardIdAndUserId(boardId, appUserDetails.getUserId())
-                .orElse(BoardRole.VIEWER);
+        BoardRole boardRole = boardAccessContext.get(boardId, appUserDetails.getUserId()).boardRole();
+        if (boardRole == null) {
+            boardRole = BoardRole.VIEWER;
+        }
 
-        WorkspaceDTO workspaceDTO = workspaceRepository.findWorkspaceDTOByWorkspaceAndUser(board.getWorkspace(), appUserDetails.getUser()).orElseThrow(() -> new ResourceNotFoundException("Workspace doesnt exist or user is not a member of the workspace"));
+        WorkspaceDTO workspaceDTO = workspaceRepository.findWorkspaceDTOByWorkspaceAndUserId(board.getWorkspace(), appUserDetails.getUserId()).orElseThrow(() -> new ResourceNotFoundException("Workspace doesnt exist or user is not a member of the workspace"));
 
         return boardMapper.toDto(board, boardRole, workspaceDTO);
     }
@@ -107,6 +116,7 @@ public class BoardService {
                 .orElseThrow(() -> new ResourceNotFoundException("Board not found"));
         board.setBoardVisibility(boardChangeVisibilityRequestDTO.getBoardVisibility());
         boardRepository.save(board);
+        eventPublisher.publishEvent(BoardAccessChangedEvent.board(boardId));
         notificationService.sendToTopic("/topic/board/" + boardId, boardChangeVisibilityRequestDTO);
     }
 
@@ -0,0 +1,87 @@
+package com.boardly.service;
+
+import com.boardly.common.event.BoardAccessChangedEvent;
+import com.boardly.service.broadcast.PubSubChannel;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+// Carries cache evictions to the other nodes. Each node evicts its own caches directly and only applies what other
+// nodes publish; a lost message is bounded by the caches' own expiry. Outside relay fan-out there are no other nodes
+// to tell, so nothing is published or subscribed.
+@Component
+public class CacheInvalidationRelay {
+    private static final Logger logger = LoggerFactory.getLogger(CacheInvalidationRelay.class);
+
+    private final PubSubChannel pubSubChannel;
+    private final ObjectMapper objectMapper;
+    private final String channel;
+    private final boolean enabled;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final List<Consumer<Invalidation>> listeners = new CopyOnWriteArrayList<>();
+
+    public CacheInvalidationRelay(PubSubChannel pubSubChannel, ObjectMapper objectMapper,
+                                  @Value("${app.cache-invalidation.channel:boardly:cache-invalidation}") String channel,
+                                  @Value("${app.websocket.fanout.mode:local}") String fanoutMode) {
+        this.pubSubChannel = pubSubChannel;
+        this.objectMapper = objectMapper;
+        this.channel = channel;
+        this.enabled = fanoutMode.equals("relay");
+        if (enabled) {
+            pubSubChannel.subscribe(channel, this::receive);
+        }
+    }
+
+    public void onRemoteInvalidation(Consumer<Invalidation> listener) {
+        listeners.add(listener);
+    }
+
+    public void boardChanged(UUID boardId) {
+        publish(new Invalidation(nodeId, boardId, null));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBoardAccessChanged(BoardAccessChangedEvent event) {
+        publish(new Invalidation(nodeId, null, event));
+    }
+
+    private void publish(Invalidation invalidation) {
+        if (!enabled) {
+            return;
+        }
+        try {
+            pubSubChannel.publish(channel, objectMapper.writeValueAsBytes(invalidation));
+        } catch (IOException | RuntimeException e) {
+            logger.warn("Failed to publish cache invalidation, other nodes keep their entries until they expire", e);
+        }
+    }
+
+    private void receive(byte[] raw) {
+        Invalidation invalidation;
+        try {
+            invalidation = objectMapper.readValue(raw, Invalidation.class);
+        } catch (IOException e) {
+            logger.warn("Dropping unreadable cache invalidation", e);
+            return;
+        }
+        if (nodeId.equals(invalidation.origin())) {
+            return;
+        }
+        for (Consumer<Invalidation> listener : listeners) {
+            listener.accept(invalidation);
+        }
+    }
+
+    // boardId names a board whose kanban snapshot changed; accessChange is the access change to evict by
+    public record Invalidation(String origin, UUID boardId, BoardAccessChangedEvent accessChange) {
+    }
+}
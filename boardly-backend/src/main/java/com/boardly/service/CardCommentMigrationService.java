@@ -0,0 +1,85 @@
+package com.boardly.service;
+
+import com.boardly.data.model.nosql.CardComment;
+import com.boardly.data.model.nosql.Comment;
+import com.boardly.data.model.nosql.KanbanCard;
+import com.boardly.data.repository.CardCommentRepository;
+import com.boardly.data.repository.KanbanCardRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+import java.util.stream.Stream;
+
+// Moves comments embedded in card documents into the card_comments collection
+@Service
+public class CardCommentMigrationService {
+    private static final Logger logger = LoggerFactory.getLogger(CardCommentMigrationService.class);
+
+    private final KanbanCardRepository kanbanCardRepository;
+    private final CardCommentRepository cardCommentRepository;
+
+    @Value("${kanban.comments.migration.enabled:true}")
+    private boolean migrationEnabled;
+
+    @Value("${kanban.comments.migration.batch-size:200}")
+    private int batchSize;
+
+    public CardCommentMigrationService(KanbanCardRepository kanbanCardRepository, CardCommentRepository cardCommentRepository) {
+        this.kanbanCardRepository = kanbanCardRepository;
+        this.cardCommentRepository = cardCommentRepository;
+    }
+
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void migrateOnStartup() {
+        if (migrationEnabled) {
+            migrateAll();
+        }
+    }
+
+    public void migrateAll() {
+        long migrated = 0;
+        List<KanbanCard> batch = new ArrayList<>(batchSize);
+        try (Stream<KanbanCard> cards = kanbanCardRepository.streamCardsWithEmbeddedComments(batchSize)) {
+            Iterator<KanbanCard> iterator = cards.iterator();
+            while (iterator.hasNext()) {
+                batch.add(iterator.next());
+                if (batch.size() == batchSize) {
+                    migrated += migrate(batch);
+                    batch.clear();
+                }
+            }
+        }
+        migrated += migrate(batch);
+        if (migrated > 0) {
+            logger.info("Moved {} embedded card comments to card_comments", migrated);
+        }
+    }
+
+    public int migrate(List<KanbanCard> cards) {
+        List<CardComment> comments = new ArrayList<>();
+        Map<UUID, List<UUID>> commentIdsByCard = new HashMap<>();
+        for (KanbanCard card : cards) {
+            for (Comment comment : card.getComments()) {
+                comments.add(toCardComment(card, comment));
+                commentIdsByCard.computeIfAbsent(card.getId(), id -> new ArrayList<>()).add(comment.getId());
+            }
+        }
+        cardCommentRepository.upsertAll(comments);
+        kanbanCardRepository.pullEmbeddedComments(commentIdsByCard);
+        return comments.size();
+    }
+
+    private CardComment toCardComment(KanbanCard card, Comment comment) {
+        Instant createdAt = comment.getCreatedAt() == null ? Instant.EPOCH : comment.getCreatedAt().truncatedTo(ChronoUnit.MILLIS);
+        return new CardComment(comment.getId(), card.getBoardId(), card.getId(), comment.getAuthorId(), comment.getContent(), comment.isEdited(), createdAt);
+    }
+}
@@ -0,0 +1,71 @@
+package com.boardly.service;
+
+import com.boardly.common.dto.kanbanboard.KanbanBoardDTO;
+import com.boardly.common.dto.kanbanboard.KanbanListDTO;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+
+// Assembled board snapshots; every entry weighs at least 1, so max-weight also bounds the entry count
+@Component
+public class KanbanBoardCache {
+    private final Cache<BoardView, KanbanBoardDTO> cache;
+    private final CacheInvalidationRelay cacheInvalidationRelay;
+
+    public KanbanBoardCache(
+            MeterRegistry meterRegistry,
+            CacheInvalidationRelay cacheInvalidationRelay,
+            @Value("${kanban.board-cache.max-weight:250000}") long maxWeight,
+            @Value("${kanban.board-cache.expire-after-write:10m}") Duration expireAfterWrite
+    ) {
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxWeight)
+                .weigher((BoardView view, KanbanBoardDTO board) -> weigh(board))
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "kanbanBoards");
+        this.cacheInvalidationRelay = cacheInvalidationRelay;
+        cacheInvalidationRelay.onRemoteInvalidation(invalidation -> {
+            if (invalidation.boardId() != null) {
+                evict(invalidation.boardId());
+            }
+        });
+    }
+
+    public KanbanBoardDTO get(UUID boardId, boolean summary, Function<BoardView, KanbanBoardDTO> loader) {
+        return cache.get(new BoardView(boardId, summary), loader);
+    }
+
+    public KanbanBoardDTO getIfPresent(UUID boardId, boolean summary) {
+        return cache.getIfPresent(new BoardView(boardId, summary));
+    }
+
+    public void invalidate(UUID boardId) {
+        evict(boardId);
+        cacheInvalidationRelay.boardChanged(boardId);
+    }
+
+    private void evict(UUID boardId) {
+        cache.invalidateAll(List.of(new BoardView(boardId, false), new BoardView(boardId, true)));
+    }
+
+    public record BoardView(UUID boardId, boolean summary) {
+    }
+
+    private static int weigh(KanbanBoardDTO board) {
+        int weight = 1;
+        for (KanbanListDTO list : board.getLists()) {
+            weight += 1 + list.getCards().size();
+        }
+        return weight;
+    }
+}
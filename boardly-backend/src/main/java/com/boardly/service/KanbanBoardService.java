@@ -1,17 +1,24 @@
 package com.boardly.service;
 
+import com.boardly.common.dto.UserDTO;
 import com.boardly.common.dto.kanbanboard.*;
 import com.boardly.data.mapper.KanbanMapper;
-import com.boardly.data.mapper.UserMapper;
 import com.boardly.data.model.nosql.*;
+import com.boardly.data.repository.BoardSequenceRepository;
+import com.boardly.data.repository.CardCommentRepository;
 import com.boardly.data.repository.KanbanBoardRepository;
 import com.boardly.data.repository.KanbanCardRepository;
-import com.boardly.data.repository.UserRepository;
+import com.boardly.data.repository.KanbanListTombstoneRepository;
 import com.boardly.exception.ResourceNotFoundException;
 import com.boardly.security.model.AppUserDetails;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -20,103 +27,183 @@ public class KanbanBoardService {
     private final KanbanBoardRepository kanbanBoardRepository;
     private final KanbanCardRepository kanbanCardRepository;
     private final KanbanMapper kanbanMapper;
-    private final UserRepository userRepository;
-    private final UserMapper userMapper;
+    private final UserSummaryService userSummaryService;
     private final NotificationService notificationService;
+    private final OptimisticRetryService optimisticRetryService;
+    private final KanbanBoardCache kanbanBoardCache;
+    private final BoardSequenceRepository boardSequenceRepository;
+    private final KanbanListTombstoneRepository kanbanListTombstoneRepository;
+    private final CardCommentRepository cardCommentRepository;
+    private final CardCommentMigrationService cardCommentMigrationService;
+    private final KanbanRankService kanbanRankService;
 
-    public KanbanBoardService(KanbanBoardRepository kanbanBoardRepository, KanbanCardRepository kanbanCardRepository, KanbanMapper kanbanMapper, UserRepository userRepository, UserMapper userMapper, NotificationService notificationService) {
+    @Value("${kanban.changes.tombstone-retention:7d}")
+    private Duration tombstoneRetention;
+
+    @Value("${kanban.comments.page-size:50}")
+    private int commentPageSize;
+
+    public KanbanBoardService(KanbanBoardRepository kanbanBoardRepository, KanbanCardRepository kanbanCardRepository, KanbanMapper kanbanMapper, UserSummaryService userSummaryService, NotificationService notificationService, OptimisticRetryService optimisticRetryService, KanbanBoardCache kanbanBoardCache, BoardSequenceRepository boardSequenceRepository, KanbanListTombstoneRepository kanbanListTombstoneRepository, CardCommentRepository cardCommentRepository, CardCommentMigrationService cardCommentMigrationService, KanbanRankService kanbanRankService) {
         this.kanbanCardRepository = kanbanCardRepository;
         this.kanbanBoardRepository = kanbanBoardRepository;
         this.kanbanMapper = kanbanMapper;
-        this.userRepository = userRepository;
-        this.userMapper = userMapper;
+        this.userSummaryService = userSummaryService;
         this.notificationService = notificationService;
+        this.optimisticRetryService = optimisticRetryService;
+        this.kanbanBoardCache = kanbanBoardCache;
+        this.boardSequenceRepository = boardSequenceRepository;
+        this.kanbanListTombstoneRepository = kanbanListTombstoneRepository;
+        this.cardCommentRepository = cardCommentRepository;
+        this.cardCommentMigrationService = cardCommentMigrationService;
+        this.kanbanRankService = kanbanRankService;
     }
 
     public void createBoard(UUID boardId) {
         KanbanBoard kanbanBoard = new KanbanBoard();
         kanbanBoard.setBoardId(boardId);
         kanbanBoard.setLists(new ArrayList<>());
+        kanbanBoard.setRanked(true);
         kanbanBoardRepository.save(kanbanBoard);
     }
 
     @Async
     public void deleteBoard(UUID boardId) {
+        cardCommentRepository.deleteAllByBoardId(boardId);
         kanbanCardRepository.deleteAllByBoardId(boardId);
         kanbanBoardRepository.deleteByBoardId(boardId);
+        kanbanListTombstoneRepository.deleteAllByBoardId(boardId);
+        boardSequenceRepository.deleteById(boardId);
+        kanbanBoardCache.invalidate(boardId);
     }
 
 
-    public KanbanBoardDTO getBoard(UUID boardId) {
+    public KanbanBoardDTO getBoard(UUID boardId, boolean summary) {
+        KanbanBoardDTO cached = kanbanBoardCache.getIfPresent(boardId, summary);
+        if (cached != null) {
+            return cached;
+        }
+        return kanbanBoardCache.get(boardId, summary, view -> loadBoard(view.boardId(), view.summary()));
+    }
+
+    private KanbanBoardDTO loadBoard(UUID boardId, boolean summary) {
+        // Read before the documents so the snapshot never claims a sequence newer than its contents
+        long sequence = boardSequenceRepository.findLive(boardId)
+                .map(BoardSequence::settledSeq)
+                .orElse(0L);
         KanbanBoard kanbanBoard = kanbanBoardRepository.findByBoardId(boardId).orElseThrow(
                 () -> new ResourceNotFoundException("Board not found"));
 
         KanbanBoardDTO kanbanBoardDTO = kanbanMapper.toDTO(kanbanBoard);
-        List<KanbanCardDTO> kanbanCardDTOs = kanbanCardRepository.findAllByBoardId(boardId)
-                .stream()
-                .map(kanbanMapper::toDTO)
+        List<KanbanCard> kanbanCards = summary
+                ? kanbanCardRepository.findBoardViewCardSummaries(boardId)
+                : kanbanCardRepository.findBoardViewCards(boardId);
+        // A board not yet ranked by the startup task or its first write is shown in its old position order
+        boolean ranked = Boolean.TRUE.equals(kanbanBoard.getRanked());
+        if (!ranked) {
+            kanbanCards = kanbanCards.stream()
+                    .sorted(Comparator.comparingDouble(KanbanCard::getPosition).thenComparing(KanbanCard::getId))
+                    .toList();
+        }
+        List<KanbanCardDTO> kanbanCardDTOs = kanbanCards.stream()
+                .map(card -> {
+                    KanbanCardDTO kanbanCardDTO = kanbanMapper.toDTO(card);
+                    if (summary) {
+                        kanbanCardDTO.setChecklists(null);
+                    }
+                    return kanbanCardDTO;
+                })
                 .toList();
 
         Map<UUID, List<KanbanCardDTO>> kanbanCardDTOMap = kanbanCardDTOs.stream()
                 .collect(Collectors.groupingBy(KanbanCardDTO::getListId));
 
         List<KanbanListDTO> kanbanListDTOs = kanbanBoard.getLists().stream()
+                .sorted(ranked
+                        ? Comparator.comparing(KanbanList::getRank).thenComparing(KanbanList::getId)
+                        : Comparator.comparingDouble(KanbanList::getPosition).thenComparing(KanbanList::getId))
                 .map(list -> {
                     KanbanListDTO kanbanListDTO = kanbanMapper.toDTO(list);
-                    List<KanbanCardDTO> cards = kanbanCardDTOMap
-                            .getOrDefault(list.getId(), new ArrayList<>());
-                    cards.sort(Comparator.comparingDouble(KanbanCardDTO::getPosition));
-                    kanbanListDTO.setCards(cards);
+                    kanbanListDTO.setCards(kanbanCardDTOMap.getOrDefault(list.getId(), new ArrayList<>()));
                     return kanbanListDTO;
                 })
-                .sorted(Comparator.comparingDouble(KanbanListDTO::getPosition))
                 .toList();
 
         kanbanBoardDTO.setLists(kanbanListDTOs);
+        kanbanBoardDTO.setSequence(sequence);
 
         return kanbanBoardDTO;
     }
 
+    // Clients subscribe to the board topic before calling this, so a write that commits after the read still reaches them live
+    public KanbanBoardChangesDTO getChanges(UUID boardId, long since) {
+        BoardSequence boardSequence = boardSequenceRepository.findLive(boardId).orElse(new BoardSequence(boardId, 0, 0, null));
+        KanbanBoard kanbanBoard = kanbanBoardRepository.findByBoardId(boardId).orElseThrow(
+                () -> new ResourceNotFoundException("Board not found"));
+
+        KanbanBoardChangesDTO changes = new KanbanBoardChangesDTO();
+        changes.setBoardId(boardId);
+        // Changes past the settled cursor are sent again on the next poll rather than risk skipping an in-flight write
+        changes.setSequence(boardSequence.settledSeq());
+        if (since < boardSequence.getPrunedThrough() || since > boardSequence.getSeq()) {
+            changes.setResyncRequired(true);
+            return changes;
+        }
+
+        changes.setLists(kanbanBoard.getLists().stream()
+                .filter(list -> list.getChangeSeq() > since)
+                .map(kanbanMapper::toDTO)
+                .toList());
+        changes.setCards(kanbanCardRepository.findBoardViewCardsChangedSince(boardId, since).stream()
+                .map(kanbanMapper::toDTO)
+                .toList());
+        changes.setDeletedListIds(kanbanListTombstoneRepository.findAllByBoardIdAndChangeSeqGreaterThan(boardId, since).stream()
+                .map(KanbanListTombstone::getListId)
+                .toList());
+        return changes;
+    }
+
     // List operations
 
     public KanbanListDTO createList(UUID boardId, KanbanListCreationRequestDTO kanbanListCreationRequestDTO) {
-        KanbanBoard kanbanBoard = kanbanBoardRepository.findByBoardId(boardId).orElseThrow(
-                () -> new ResourceNotFoundException("Board not found"));
+        return optimisticRetryService.execute(() -> applyCreateList(boardId, kanbanListCreationRequestDTO));
+    }
+
+    private KanbanListDTO applyCreateList(UUID boardId, KanbanListCreationRequestDTO kanbanListCreationRequestDTO) {
+        KanbanBoard kanbanBoard = kanbanRankService.ensureRanked(kanbanBoardRepository.findByBoardId(boardId).orElseThrow(
+                () -> new ResourceNotFoundException("Board not found")));
         KanbanList kanbanList = new KanbanList();
         kanbanList.setId(UUID.randomUUID());
         kanbanList.setTitle(kanbanListCreationRequestDTO.getTitle());
-        kanbanList.setPosition(kanbanListCreationRequestDTO.getPosition());
-        kanbanBoard.getLists().add(kanbanList);
-        kanbanBoardRepository.save(kanbanBoard);
-
-        boolean collision = isPositionCollision(kanbanBoard.getLists(), kanbanList.getPosition());
-        if (collision || kanbanList.getPosition() <= 0.125) {
-            rebalancePositions(kanbanBoard.getLists());
-            kanbanBoardRepository.save(kanbanBoard);
-            KanbanList list = kanbanBoard.getLists().stream()
-                    .filter(l -> l.getId().equals(kanbanList.getId()))
-                    .findFirst()
-                    .orElseThrow(() -> new ResourceNotFoundException("List not found after rebalancing"));
-            kanbanList.setPosition(list.getPosition());
+        kanbanList.setRank(kanbanRankService.listRank(boardId, kanbanBoard.getLists(), kanbanList.getId(), kanbanListCreationRequestDTO.getIndex()));
+        kanbanList.setChangeSeq(boardSequenceRepository.next(boardId));
+        try {
+            kanbanBoardRepository.pushList(boardId, kanbanBoard.getVersion(), kanbanList);
+        } finally {
+            boardSequenceRepository.complete(boardId, kanbanList.getChangeSeq());
         }
 
         KanbanListDTO kanbanListDTO = kanbanMapper.toDTO(kanbanList);
         kanbanListDTO.setCards(new ArrayList<>());
-        notificationService.sendToTopic("/topic/kanban/" + boardId, kanbanListDTO);
+        kanbanBoardCache.invalidate(boardId);
+        notificationService.sendToTopic("/topic/kanban/" + boardId, KanbanEventDTO.listCreated(kanbanListDTO, kanbanList.getChangeSeq()));
         return kanbanListDTO;
     }
 
     public KanbanListDTO updateList(UUID boardId, UUID listId, KanbanListUpdateRequestDTO kanbanListUpdateRequestDTO) {
-        KanbanBoard board = kanbanBoardRepository.findByBoardId(boardId)
-                .orElseThrow(() -> new ResourceNotFoundException("Board not found"));
+        return optimisticRetryService.execute(() -> applyUpdateList(boardId, listId, kanbanListUpdateRequestDTO));
+    }
+
+    private KanbanListDTO applyUpdateList(UUID boardId, UUID listId, KanbanListUpdateRequestDTO kanbanListUpdateRequestDTO) {
+        KanbanBoard board = kanbanRankService.ensureRanked(kanbanBoardRepository.findByBoardId(boardId)
+                .orElseThrow(() -> new ResourceNotFoundException("Board not found")));
 
         KanbanList list = board.getLists().stream()
                 .filter(l -> l.getId().equals(listId))
                 .findFirst()
                 .orElseThrow(() -> new ResourceNotFoundException("List not found"));
 
-        if (kanbanListUpdateRequestDTO.getTitle() == null && kanbanListUpdateRequestDTO.getPosition() == null) {
-            throw new IllegalArgumentException("At least one field (title or position) must be provided for update");
+        if (kanbanListUpdateRequestDTO.getTitle() == null && kanbanListUpdateRequestDTO.getIndex() == null) {
+            throw new IllegalArgumentException("At least one field (title or index) must be provided for update");
         }
 
         if (kanbanListUpdateRequestDTO.getTitle() != null) {
@@ -127,73 +214,63 @@ public class KanbanBoardService {
             list.setTitle(newTitle);
         }
 
-        if (kanbanListUpdateRequestDTO.getPosition() != null) {
-            moveList(board, list, kanbanListUpdateRequestDTO.getPosition());
+        if (kanbanListUpdateRequestDTO.getIndex() != null) {
+            list.setRank(kanbanRankService.listRank(boardId, board.getLists(), listId, kanbanListUpdateRequestDTO.getIndex()));
+        }
+        list.setChangeSeq(boardSequenceRepository.next(boardId));
+        try {
+            kanbanBoardRepository.updateList(boardId, board.getVersion(), list);
+        } finally {
+            boardSequenceRepository.complete(boardId, list.getChangeSeq());
         }
-
-        kanbanBoardRepository.save(board);
 
         KanbanListDTO kanbanListDTO = kanbanMapper.toDTO(list);
-        notificationService.sendToTopic("/topic/kanban/" + boardId, kanbanListDTO);
+        kanbanBoardCache.invalidate(boardId);
+        notificationService.sendToTopic("/topic/kanban/" + boardId, KanbanEventDTO.listUpdated(listId, list.getChangeSeq(),
+                kanbanListUpdateRequestDTO.getTitle() != null ? list.getTitle() : null,
+                kanbanListUpdateRequestDTO.getIndex() != null ? list.getRank() : null));
         return kanbanListDTO;
     }
 
-    private void moveList(KanbanBoard board, KanbanList listToMove, double targetPosition) {
-        if (targetPosition < 0) {
-            throw new IllegalArgumentException("Position must be greater than 0");
-        }
-
-        if (targetPosition > Long.MAX_VALUE) {
-            throw new IllegalArgumentException("Position must be less than " + Long.MAX_VALUE);
-        }
-
-        boolean collision = isPositionCollision(board.getLists(), targetPosition);
-        if (collision || targetPosition < 0.125) {
-            rebalancePositions(board.getLists());
-            KanbanList list = board.getLists().stream()
-                    .filter(l -> l.getId().equals(listToMove.getId()))
-                    .findFirst()
-                    .orElseThrow(() -> new ResourceNotFoundException("List not found after rebalancing"));
-            targetPosition = list.getPosition();
-        }
-
-        listToMove.setPosition(targetPosition);
-    }
-
-    private boolean isPositionCollision(List<KanbanList> lists, double targetPosition) {
-        double minDistance = 0.0001;
-        return lists.stream()
-                .anyMatch(list -> Math.abs(list.getPosition() - targetPosition) < minDistance);
-    }
-
-    private void rebalancePositions(List<KanbanList> lists) {
-        double currentPosition = Math.pow(2, 47);
-        double incrementSize = Math.pow(2, 14);
-        lists.sort(Comparator.comparingDouble(KanbanList::getPosition));
-        for (KanbanList l : lists) {
-            l.setPosition(currentPosition);
-            currentPosition += incrementSize;
-        }
+    public void deleteList(UUID boardId, UUID listId) {
+        optimisticRetryService.execute(() -> applyDeleteList(boardId, listId));
     }
 
-    public void deleteList(UUID boardId, UUID listId) {
+    private void applyDeleteList(UUID boardId, UUID listId) {
         KanbanBoard kanbanBoard = kanbanBoardRepository.findByBoardId(boardId).orElseThrow(
                 () -> new ResourceNotFoundException("Board not found"));
-        boolean removed = kanbanBoard.getLists().removeIf(list -> list.getId().equals(listId));
-        if (!removed) {
+        boolean exists = kanbanBoard.getLists().stream().anyMatch(list -> list.getId().equals(listId));
+        if (!exists) {
             throw new ResourceNotFoundException("List not found");
         }
+        long changeSeq = boardSequenceRepository.next(boardId);
+        try {
+            kanbanBoardRepository.pullList(boardId, kanbanBoard.getVersion(), listId);
+            recordListTombstone(boardId, listId, changeSeq);
+        } finally {
+            boardSequenceRepository.complete(boardId, changeSeq);
+        }
+        cardCommentRepository.deleteAllByCardIdIn(kanbanCardRepository.findIdsByBoardIdAndListId(boardId, listId));
         kanbanCardRepository.deleteAllByBoardIdAndListId(boardId, listId);
-        kanbanBoardRepository.save(kanbanBoard);
-        notificationService.sendToTopic("/topic/kanban/" + boardId, Map.of("listId", listId, "deleted", true));
+        kanbanBoardCache.invalidate(boardId);
+        notificationService.sendToTopic("/topic/kanban/" + boardId, KanbanEventDTO.listDeleted(listId, changeSeq));
+    }
+
+    private void recordListTombstone(UUID boardId, UUID listId, long changeSeq) {
+        Instant now = Instant.now();
+        kanbanListTombstoneRepository.save(new KanbanListTombstone(listId, boardId, changeSeq, now));
+        kanbanListTombstoneRepository.deleteAllByBoardIdAndDeletedAtBefore(boardId, now.minus(tombstoneRetention)).stream()
+                .mapToLong(KanbanListTombstone::getChangeSeq)
+                .max()
+                .ifPresent(pruned -> boardSequenceRepository.advancePrunedThrough(boardId, pruned));
     }
 
     // Card operations
 
 
     public KanbanCardDTO createCard(UUID boardId, KanbanCardCreationRequestDTO kanbanCardCreationRequestDTO) {
-        KanbanBoard kanbanBoard = kanbanBoardRepository.findByBoardId(boardId).orElseThrow(
-                () -> new ResourceNotFoundException("Board not found"));
+        KanbanBoard kanbanBoard = kanbanRankService.ensureRanked(kanbanBoardRepository.findByBoardId(boardId).orElseThrow(
+                () -> new ResourceNotFoundException("Board not found")));
 
         UUID listId = kanbanCardCreationRequestDTO.getListId();
         kanbanBoard.getLists().stream()
@@ -206,189 +283,275 @@ public class KanbanBoardService {
         kanbanCard.setBoardId(boardId);
         kanbanCard.setListId(listId);
         kanbanCard.setTitle(kanbanCardCreationRequestDTO.getTitle());
-        kanbanCard.setPosition(kanbanCardCreationRequestDTO.getPosition());
-        kanbanCardRepository.save(kanbanCard);
+        kanbanCard.setChecklistItemCount(0);
+        kanbanCard.setCompletedChecklistItemCount(0);
+        kanbanCard.setChangeSeq(boardSequenceRepository.next(boardId));
+        try {
+            kanbanCard.setRank(kanbanRankService.cardRank(boardId, listId, kanbanCard.getId(), kanbanCardCreationRequestDTO.getIndex()));
+            kanbanCardRepository.save(kanbanCard);
+        } finally {
+            boardSequenceRepository.complete(boardId, kanbanCard.getChangeSeq());
+        }
 
         KanbanCardDTO kanbanCardDTO = kanbanMapper.toDTO(kanbanCard);
-        notificationService.sendToTopic("/topic/kanban/" + boardId, kanbanCardDTO);
+        kanbanBoardCache.invalidate(boardId);
+        notificationService.sendToTopic("/topic/kanban/" + boardId, KanbanEventDTO.cardCreated(kanbanCardDTO, kanbanCard.getChangeSeq()));
         return kanbanCardDTO;
     }
 
     public KanbanCardDetailsDTO getCard(UUID boardId, UUID cardId) {
         KanbanCard kanbanCard = kanbanCardRepository.findByBoardIdAndId(boardId, cardId)
                 .orElseThrow(() -> new ResourceNotFoundException("Card not found"));
+        if (!kanbanCard.getComments().isEmpty()) {
+            cardCommentMigrationService.migrate(List.of(kanbanCard));
+        }
         KanbanCardDetailsDTO kanbanCardDetailsDTO = kanbanMapper.toDetailsDTO(kanbanCard);
-        List<CardCommentDTO> comments = kanbanCard.getComments().stream()
+        CardCommentPageDTO firstPage = loadCommentPage(boardId, cardId, null);
+        kanbanCardDetailsDTO.setComments(firstPage.getComments());
+        kanbanCardDetailsDTO.setNextCommentsCursor(firstPage.getNextCursor());
+        return kanbanCardDetailsDTO;
+    }
+
+    public CardCommentPageDTO getComments(UUID boardId, UUID cardId, String cursor) {
+        if (!kanbanCardRepository.existsByBoardIdAndId(boardId, cardId)) {
+            throw new ResourceNotFoundException("Card not found");
+        }
+        return loadCommentPage(boardId, cardId, cursor);
+    }
+
+    private CardCommentPageDTO loadCommentPage(UUID boardId, UUID cardId, String cursor) {
+        Instant afterCreatedAt = null;
+        UUID afterId = null;
+        if (cursor != null) {
+            String[] parts = decodeCommentCursor(cursor);
+            afterCreatedAt = Instant.ofEpochMilli(Long.parseLong(parts[0]));
+            afterId = UUID.fromString(parts[1]);
+        }
+
+        List<CardComment> page = cardCommentRepository.findPage(boardId, cardId, afterCreatedAt, afterId, commentPageSize + 1);
+        boolean hasMore = page.size() > commentPageSize;
+        if (hasMore) {
+            page = page.subList(0, commentPageSize);
+        }
+
+        Map<UUID, UserDTO> authors = userSummaryService.getSummaries(page.stream()
+                .map(CardComment::getAuthorId)
+                .toList());
+        List<CardCommentDTO> comments = page.stream()
                 .map(comment -> {
                     CardCommentDTO cardCommentDTO = kanbanMapper.toDTO(comment);
-                    userRepository.findById(comment.getAuthorId()).ifPresent(user -> cardCommentDTO.setAuthor(userMapper.toDTO(user)));
+                    cardCommentDTO.setAuthor(authors.get(comment.getAuthorId()));
                     return cardCommentDTO;
                 })
                 .collect(Collectors.toList());
-        kanbanCardDetailsDTO.setComments(comments);
-        return kanbanCardDetailsDTO;
+
+        String nextCursor = null;
+        if (hasMore) {
+            CardComment last = page.getLast();
+            nextCursor = Base64.getUrlEncoder().withoutPadding()
+                    .encodeToString((last.getCreatedAt().toEpochMilli() + ":" + last.getId()).getBytes(StandardCharsets.UTF_8));
+        }
+        return new CardCommentPageDTO(comments, nextCursor);
+    }
+
+    private String[] decodeCommentCursor(String cursor) {
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split(":");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+            Long.parseLong(parts[0]);
+            UUID.fromString(parts[1]);
+            return parts;
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
     }
 
     public void updateCard(UUID boardId, UUID cardId, KanbanCardUpdateRequestDTO updateRequest) {
+        optimisticRetryService.execute(() -> applyUpdateCard(boardId, cardId, updateRequest));
+    }
+
+    private void applyUpdateCard(UUID boardId, UUID cardId, KanbanCardUpdateRequestDTO updateRequest) {
+        boolean moving = updateRequest.getListId() != null || updateRequest.getIndex() != null;
+        KanbanBoard board = null;
+        if (moving) {
+            board = kanbanRankService.ensureRanked(kanbanBoardRepository.findByBoardId(boardId)
+                    .orElseThrow(() -> new ResourceNotFoundException("Board not found")));
+        }
+
         KanbanCard card = kanbanCardRepository.findByBoardIdAndId(boardId, cardId)
                 .orElseThrow(() -> new ResourceNotFoundException("Card not found"));
 
-        if (updateRequest.getTitle() != null) {
-            card.setTitle(updateRequest.getTitle());
-        }
-        if (updateRequest.getDescription() != null) {
-            card.setDescription(updateRequest.getDescription());
-        }
-        if (updateRequest.getPosition() != null) {
-            card.setPosition(updateRequest.getPosition());
-        }
-        if (updateRequest.getListId() != null) {
-            kanbanBoardRepository.findByBoardId(boardId)
-                    .orElseThrow(() -> new ResourceNotFoundException("Board not found"))
-                    .getLists().stream()
-                    .filter(list -> list.getId().equals(updateRequest.getListId()))
-                    .findFirst()
-                    .orElseThrow(() -> new ResourceNotFoundException("List not found"));
-            card.setListId(updateRequest.getListId());
-        }
-        if (updateRequest.getStartDate() != null) {
-            card.setStartDate(updateRequest.getStartDate());
-        }
-        if (updateRequest.getDueDate() != null) {
-            card.setDueDate(updateRequest.getDueDate());
-        }
-        if (updateRequest.getLabels() != null) {
-            card.setLabels(updateRequest.getLabels());
-        }
-        if (updateRequest.getAssignedMembers() != null) {
-            card.setAssignedMembers(new HashSet<>(updateRequest.getAssignedMembers()));
-        }
+        // Taken before any neighbour ranks are read, which a concurrent rebalance relies on
+        card.setChangeSeq(boardSequenceRepository.next(boardId));
+        try {
+            if (updateRequest.getTitle() != null) {
+                card.setTitle(updateRequest.getTitle());
+            }
+            if (updateRequest.getDescription() != null) {
+                card.setDescription(updateRequest.getDescription());
+            }
+            if (moving) {
+                if (updateRequest.getListId() != null) {
+                    board.getLists().stream()
+                            .filter(list -> list.getId().equals(updateRequest.getListId()))
+                            .findFirst()
+                            .orElseThrow(() -> new ResourceNotFoundException("List not found"));
+                    card.setListId(updateRequest.getListId());
+                }
+                card.setRank(kanbanRankService.cardRank(boardId, card.getListId(), cardId, updateRequest.getIndex()));
+            }
+            if (updateRequest.getStartDate() != null) {
+                card.setStartDate(updateRequest.getStartDate());
+            }
+            if (updateRequest.getDueDate() != null) {
+                card.setDueDate(updateRequest.getDueDate());
+            }
+            if (updateRequest.getLabels() != null) {
+                card.setLabels(updateRequest.getLabels());
+            }
+            if (updateRequest.getAssignedMembers() != null) {
+                card.setAssignedMembers(new HashSet<>(updateRequest.getAssignedMembers()));
+            }
 
-        kanbanCardRepository.save(card);
-        notificationService.sendToTopic("/topic/kanban/" + boardId, kanbanMapper.toDTO(card));
+            kanbanCardRepository.updateCardDetails(card);
+        } finally {
+            boardSequenceRepository.complete(boardId, card.getChangeSeq());
+        }
+        kanbanBoardCache.invalidate(boardId);
+        notificationService.sendToTopic("/topic/kanban/" + boardId, KanbanEventDTO.cardUpdated(card, updateRequest));
     }
 
     public ChecklistDTO addChecklist(UUID boardId, UUID cardId, ChecklistDTO checklistDTO) {
-        KanbanCard card = kanbanCardRepository.findByBoardIdAndId(boardId, cardId)
-                .orElseThrow(() -> new ResourceNotFoundException("Card not found"));
         Checklist checklist = new Checklist();
         checklist.setId(UUID.randomUUID());
         checklist.setTitle(checklistDTO.getTitle());
         checklist.setItems(new ArrayList<>());
-        card.getChecklists().add(checklist);
-        kanbanCardRepository.save(card);
+        long changeSeq = boardSequenceRepository.next(boardId);
+        try {
+            if (!kanbanCardRepository.pushChecklist(boardId, cardId, checklist, changeSeq)) {
+                throw new ResourceNotFoundException("Card not found");
+            }
+        } finally {
+            boardSequenceRepository.complete(boardId, changeSeq);
+        }
         ChecklistDTO newChecklistDTO = kanbanMapper.toDTO(checklist);
-        notificationService.sendToTopic("/topic/kanban/" + boardId + "/card/" + cardId, newChecklistDTO);
+        kanbanBoardCache.invalidate(boardId);
+        notificationService.sendToTopic("/topic/kanban/" + boardId + "/card/" + cardId, KanbanEventDTO.checklistCreated(newChecklistDTO, changeSeq));
         return newChecklistDTO;
     }
 
     public void deleteChecklist(UUID boardId, UUID cardId, UUID checklistId) {
-        KanbanCard card = kanbanCardRepository.findByBoardIdAndId(boardId, cardId)
-                .orElseThrow(() -> new ResourceNotFoundException("Card not found"));
-        card.getChecklists().removeIf(checklist -> checklist.getId().equals(checklistId));
-        kanbanCardRepository.save(card);
-        notificationService.sendToTopic("/topic/kanban/" + boardId + "/card/" + cardId, Map.of("checklistId", checklistId, "deleted", true));
+        long changeSeq = boardSequenceRepository.next(boardId);
+        try {
+            if (!kanbanCardRepository.pullChecklist(boardId, cardId, checklistId, changeSeq)) {
+                throw new ResourceNotFoundException("Card not found");
+            }
+        } finally {
+            boardSequenceRepository.complete(boardId, changeSeq);
+        }
+        kanbanBoardCache.invalidate(boardId);
+        notificationService.sendToTopic("/topic/kanban/" + boardId + "/card/" + cardId, KanbanEventDTO.checklistDeleted(checklistId, changeSeq));
     }
 
     public void updateChecklist(UUID boardId, UUID cardId, UUID checklistId, ChecklistUpdateRequestDTO updateRequest) {
-        KanbanCard card = kanbanCardRepository.findByBoardIdAndId(boardId, cardId)
-                .orElseThrow(() -> new ResourceNotFoundException("Card not found"));
-        Checklist checklist = card.getChecklists().stream()
-                .filter(c -> c.getId().equals(checklistId))
-                .findFirst()
-                .orElseThrow(() -> new ResourceNotFoundException("Checklist not found"));
-        if (updateRequest.getTitle() != null) {
-            checklist.setTitle(updateRequest.getTitle());
+        long changeSeq = boardSequenceRepository.next(boardId);
+        Checklist checklist;
+        try {
+            checklist = kanbanCardRepository.updateChecklistTitle(boardId, cardId, checklistId, updateRequest.getTitle(), changeSeq)
+                    .orElseThrow(() -> cardOrElementNotFound(boardId, cardId, "Checklist not found"));
+        } finally {
+            boardSequenceRepository.complete(boardId, changeSeq);
         }
-        kanbanCardRepository.save(card);
-        notificationService.sendToTopic("/topic/kanban/" + boardId + "/card/" + cardId, kanbanMapper.toDTO(checklist));
+        kanbanBoardCache.invalidate(boardId);
+        notificationService.sendToTopic("/topic/kanban/" + boardId + "/card/" + cardId, KanbanEventDTO.checklistUpdated(checklistId, changeSeq, checklist.getTitle()));
     }
 
     public ChecklistItemDTO addChecklistItem(UUID boardId, UUID cardId, UUID checklistId, ChecklistItemCreationRequestDTO creationRequest) {
-        KanbanCard card = kanbanCardRepository.findByBoardIdAndId(boardId, cardId)
-                .orElseThrow(() -> new ResourceNotFoundException("Card not found"));
-        Checklist checklist = card.getChecklists().stream()
-                .filter(c -> c.getId().equals(checklistId))
-                .findFirst()
-                .orElseThrow(() -> new ResourceNotFoundException("Checklist not found"));
         ChecklistItem item = new ChecklistItem();
         item.setText(creationRequest.getText());
-        checklist.getItems().add(item);
-        kanbanCardRepository.save(card);
+        long changeSeq = boardSequenceRepository.next(boardId);
+        try {
+            if (!kanbanCardRepository.pushChecklistItem(boardId, cardId, checklistId, item, changeSeq)) {
+                throw cardOrElementNotFound(boardId, cardId, "Checklist not found");
+            }
+        } finally {
+            boardSequenceRepository.complete(boardId, changeSeq);
+        }
         ChecklistItemDTO checklistItemDTO = kanbanMapper.toDTO(item);
-        notificationService.sendToTopic("/topic/kanban/" + boardId + "/card/" + cardId + "/checklist/" + checklistId, checklistItemDTO);
+        kanbanBoardCache.invalidate(boardId);
+        notificationService.sendToTopic("/topic/kanban/" + boardId + "/card/" + cardId + "/checklist/" + checklistId, KanbanEventDTO.checklistItemCreated(checklistItemDTO, changeSeq));
         return checklistItemDTO;
     }
 
     public void deleteChecklistItem(UUID boardId, UUID cardId, UUID checklistId, UUID itemId) {
-        KanbanCard card = kanbanCardRepository.findByBoardIdAndId(boardId, cardId)
-                .orElseThrow(() -> new ResourceNotFoundException("Card not found"));
-        Checklist checklist = card.getChecklists().stream()
-                .filter(c -> c.getId().equals(checklistId))
-                .findFirst()
-                .orElseThrow(() -> new ResourceNotFoundException("Checklist not found"));
-        checklist.getItems().removeIf(item -> item.getId().equals(itemId));
-        kanbanCardRepository.save(card);
-        notificationService.sendToTopic("/topic/kanban/" + boardId + "/card/" + cardId + "/checklist/" + checklistId, Map.of("itemId", itemId, "deleted", true));
+        long changeSeq = boardSequenceRepository.next(boardId);
+        try {
+            if (!kanbanCardRepository.pullChecklistItem(boardId, cardId, checklistId, itemId, changeSeq)) {
+                throw cardOrElementNotFound(boardId, cardId, "Checklist not found");
+            }
+        } finally {
+            boardSequenceRepository.complete(boardId, changeSeq);
+        }
+        kanbanBoardCache.invalidate(boardId);
+        notificationService.sendToTopic("/topic/kanban/" + boardId + "/card/" + cardId + "/checklist/" + checklistId, KanbanEventDTO.checklistItemDeleted(itemId, changeSeq));
     }
 
     public void updateChecklistItem(UUID boardId, UUID cardId, UUID checklistId, UUID itemId, ChecklistItemUpdateRequestDTO updateRequest) {
-        KanbanCard card = kanbanCardRepository.findByBoardIdAndId(boardId, cardId)
-                .orElseThrow(() -> new ResourceNotFoundException("Card not found"));
-        Checklist checklist = card.getChecklists().stream()
-                .filter(c -> c.getId().equals(checklistId))
-                .findFirst()
-                .orElseThrow(() -> new ResourceNotFoundException("Checklist not found"));
-        ChecklistItem item = checklist.getItems().stream()
-                .filter(i -> i.getId().equals(itemId))
-                .findFirst()
-                .orElseThrow(() -> new ResourceNotFoundException("Checklist item not found"));
-        if (updateRequest.getText() != null) {
-            item.setText(updateRequest.getText());
-        }
-        if (updateRequest.getCompleted() != null) {
-            item.setCompleted(updateRequest.getCompleted());
+        long changeSeq = boardSequenceRepository.next(boardId);
+        ChecklistItem item;
+        try {
+            item = kanbanCardRepository.updateChecklistItem(boardId, cardId, checklistId, itemId, updateRequest.getText(), updateRequest.getCompleted(), changeSeq)
+                    .orElseThrow(() -> {
+                        if (kanbanCardRepository.existsByBoardIdAndIdAndChecklists_Id(boardId, cardId, checklistId)) {
+                            return new ResourceNotFoundException("Checklist item not found");
+                        }
+                        return cardOrElementNotFound(boardId, cardId, "Checklist not found");
+                    });
+        } finally {
+            boardSequenceRepository.complete(boardId, changeSeq);
         }
-        kanbanCardRepository.save(card);
-        notificationService.sendToTopic("/topic/kanban/" + boardId + "/card/" + cardId + "/checklist/" + checklistId, kanbanMapper.toDTO(item));
+        kanbanBoardCache.invalidate(boardId);
+        notificationService.sendToTopic("/topic/kanban/" + boardId + "/card/" + cardId + "/checklist/" + checklistId, KanbanEventDTO.checklistItemUpdated(item, changeSeq, updateRequest));
     }
 
     public CardCommentDTO addComment(UUID boardId, UUID cardId, CommentCreationRequestDTO creationRequest, AppUserDetails userDetails) {
-        KanbanCard card = kanbanCardRepository.findByBoardIdAndId(boardId, cardId)
-                .orElseThrow(() -> new ResourceNotFoundException("Card not found"));
-        Comment comment = new Comment();
+        if (!kanbanCardRepository.existsByBoardIdAndId(boardId, cardId)) {
+            throw new ResourceNotFoundException("Card not found");
+        }
+        CardComment comment = new CardComment();
+        comment.setId(UUID.randomUUID());
+        comment.setBoardId(boardId);
+        comment.setCardId(cardId);
         comment.setAuthorId(userDetails.getUserId());
         comment.setContent(creationRequest.getText());
-        card.getComments().add(comment);
-        kanbanCardRepository.save(card);
+        comment.setCreatedAt(Instant.now().truncatedTo(ChronoUnit.MILLIS));
+        cardCommentRepository.save(comment);
         CardCommentDTO cardCommentDTO = kanbanMapper.toDTO(comment);
-        cardCommentDTO.setAuthor(userMapper.toDTO(userDetails.getUser()));
-        notificationService.sendToTopic("/topic/kanban/" + boardId + "/card/" + cardId, cardCommentDTO);
+        cardCommentDTO.setAuthor(userSummaryService.getSummary(userDetails.getUserId()).orElse(null));
+        notificationService.sendToTopic("/topic/kanban/" + boardId + "/card/" + cardId, KanbanEventDTO.commentCreated(cardCommentDTO));
         return cardCommentDTO;
     }
 
     public void deleteComment(UUID boardId, UUID cardId, UUID commentId) {
-        KanbanCard card = kanbanCardRepository.findByBoardIdAndId(boardId, cardId)
-                .orElseThrow(() -> new ResourceNotFoundException("Card not found"));
-        card.getComments().removeIf(comment -> comment.getId().equals(commentId));
-        kanbanCardRepository.save(card);
-        notificationService.sendToTopic("/topic/kanban/" + boardId + "/card/" + cardId, Map.of("commentId", commentId, "deleted", true));
+        if (cardCommentRepository.deleteByIdAndBoardIdAndCardId(commentId, boardId, cardId) == 0) {
+            throw cardOrElementNotFound(boardId, cardId, "Comment not found");
+        }
+        notificationService.sendToTopic("/topic/kanban/" + boardId + "/card/" + cardId, KanbanEventDTO.commentDeleted(commentId));
     }
 
     public void updateComment(UUID boardId, UUID cardId, UUID commentId, CommentUpdateRequestDTO updateRequest) {
-        KanbanCard card = kanbanCardRepository.findByBoardIdAndId(boardId, cardId)
-                .orElseThrow(() -> new ResourceNotFoundException("Card not found"));
-        Comment comment = card.getComments().stream()
-                .filter(c -> c.getId().equals(commentId))
-                .findFirst()
-                .orElseThrow(() -> new ResourceNotFoundException("Comment not found"));
-        if (updateRequest.getText() != null) {
-            comment.setContent(updateRequest.getText());
-            comment.setEdited(true);
-        }
-        kanbanCardRepository.save(card);
+        CardComment comment = cardCommentRepository.updateContent(boardId, cardId, commentId, updateRequest.getText())
+                .orElseThrow(() -> cardOrElementNotFound(boardId, cardId, "Comment not found"));
         CardCommentDTO cardCommentDTO = kanbanMapper.toDTO(comment);
-        userRepository.findById(comment.getAuthorId()).ifPresent(user -> cardCommentDTO.setAuthor(userMapper.toDTO(user)));
-        notificationService.sendToTopic("/topic/kanban/" + boardId + "/card/" + cardId, cardCommentDTO);
+        notificationService.sendToTopic("/topic/kanban/" + boardId + "/card/" + cardId, KanbanEventDTO.commentUpdated(cardCommentDTO));
+    }
+
+    private ResourceNotFoundException cardOrElementNotFound(UUID boardId, UUID cardId, String message) {
+        if (!kanbanCardRepository.existsByBoardIdAndId(boardId, cardId)) {
+            return new ResourceNotFoundException("Card not found");
+        }
+        return new ResourceNotFoundException(message);
     }
 }
@@ -0,0 +1,214 @@
+package com.boardly.service;
+
+import com.boardly.common.dto.kanbanboard.KanbanEventDTO;
+import com.boardly.common.util.LexoRank;
+import com.boardly.data.model.nosql.KanbanBoard;
+import com.boardly.data.model.nosql.KanbanCard;
+import com.boardly.data.model.nosql.KanbanList;
+import com.boardly.data.repository.BoardSequenceRepository;
+import com.boardly.data.repository.KanbanBoardRepository;
+import com.boardly.data.repository.KanbanCardRepository;
+import com.boardly.data.repository.KanbanCardRepositoryCustom.RankUpdate;
+import com.boardly.exception.ConflictException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+// Hands out ranks for single-document moves and re-spaces a board's ranks in the background
+@Service
+public class KanbanRankService {
+    private static final Logger logger = LoggerFactory.getLogger(KanbanRankService.class);
+
+    private final KanbanBoardRepository kanbanBoardRepository;
+    private final KanbanCardRepository kanbanCardRepository;
+    private final BoardSequenceRepository boardSequenceRepository;
+    private final OptimisticRetryService optimisticRetryService;
+    private final KanbanBoardCache kanbanBoardCache;
+    private final NotificationService notificationService;
+    private final Set<UUID> pendingRebalance = ConcurrentHashMap.newKeySet();
+
+    @Value("${kanban.rank.max-length:24}")
+    private int maxRankLength;
+
+    public KanbanRankService(KanbanBoardRepository kanbanBoardRepository, KanbanCardRepository kanbanCardRepository, BoardSequenceRepository boardSequenceRepository, OptimisticRetryService optimisticRetryService, KanbanBoardCache kanbanBoardCache, NotificationService notificationService) {
+        this.kanbanBoardRepository = kanbanBoardRepository;
+        this.kanbanCardRepository = kanbanCardRepository;
+        this.boardSequenceRepository = boardSequenceRepository;
+        this.optimisticRetryService = optimisticRetryService;
+        this.kanbanBoardCache = kanbanBoardCache;
+        this.notificationService = notificationService;
+    }
+
+    public String rankBetween(UUID boardId, String previous, String next) {
+        String rank = LexoRank.between(previous, next);
+        // Equal neighbours come from two writers racing into one slot; re-spacing the board separates them again
+        if (rank.length() > maxRankLength || (previous != null && previous.equals(next))) {
+            pendingRebalance.add(boardId);
+        }
+        return rank;
+    }
+
+    public String listRank(UUID boardId, List<KanbanList> lists, UUID movingListId, Integer index) {
+        List<String> ranks = lists.stream()
+                .filter(list -> !list.getId().equals(movingListId))
+                .sorted(Comparator.comparing(KanbanList::getRank).thenComparing(KanbanList::getId))
+                .map(KanbanList::getRank)
+                .toList();
+        int slot = index == null ? ranks.size() : Math.min(index, ranks.size());
+        return rankBetween(boardId, slot == 0 ? null : ranks.get(slot - 1), slot == ranks.size() ? null : ranks.get(slot));
+    }
+
+    public String cardRank(UUID boardId, UUID listId, UUID movingCardId, Integer index) {
+        String[] neighbours = kanbanCardRepository.findNeighbourRanks(boardId, listId, movingCardId, index);
+        return rankBetween(boardId, neighbours[0], neighbours[1]);
+    }
+
+    // Boards created before ranks existed are ranked from their old positions on first use
+    public KanbanBoard ensureRanked(KanbanBoard board) {
+        if (Boolean.TRUE.equals(board.getRanked())) {
+            return board;
+        }
+        rebalance(board.getBoardId());
+        return kanbanBoardRepository.findByBoardId(board.getBoardId()).orElse(board);
+    }
+
+    public void rebalance(UUID boardId) {
+        optimisticRetryService.execute(() -> applyRebalance(boardId));
+    }
+
+    @Scheduled(fixedDelayString = "${kanban.rank.rebalance-interval:PT1M}")
+    public void rebalancePending() {
+        for (UUID boardId : List.copyOf(pendingRebalance)) {
+            pendingRebalance.remove(boardId);
+            try {
+                rebalance(boardId);
+            } catch (ConflictException e) {
+                logger.warn("Rank rebalance of board {} kept conflicting, retrying later", boardId);
+                pendingRebalance.add(boardId);
+            }
+        }
+    }
+
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void rankLegacyBoards() {
+        try (Stream<KanbanBoard> boards = kanbanBoardRepository.streamAllByRankedIsNull()) {
+            boards.forEach(board -> rebalance(board.getBoardId()));
+        }
+    }
+
+    private void applyRebalance(UUID boardId) {
+        KanbanBoard board = kanbanBoardRepository.findByBoardId(boardId).orElse(null);
+        if (board == null) {
+            return;
+        }
+        long changeSeq = boardSequenceRepository.next(boardId);
+        try {
+            Map<UUID, List<KanbanCard>> cardsByList = kanbanCardRepository.findOrderingsByBoardId(boardId).stream()
+                    .collect(Collectors.groupingBy(KanbanCard::getListId));
+            Map<UUID, List<RankUpdate>> respacedByList = new HashMap<>();
+            Map<UUID, String> assigned = new HashMap<>();
+            List<RankUpdate> cardUpdates = new ArrayList<>();
+            for (Map.Entry<UUID, List<KanbanCard>> entry : cardsByList.entrySet()) {
+                List<KanbanCard> cards = entry.getValue();
+                cards.sort(Comparator.comparing(KanbanCard::getRank, Comparator.nullsLast(Comparator.<String>naturalOrder()))
+                        .thenComparingDouble(KanbanCard::getPosition)
+                        .thenComparing(KanbanCard::getId));
+                List<String> ranks = LexoRank.spread(cards.size());
+                List<RankUpdate> respaced = new ArrayList<>(cards.size());
+                for (int i = 0; i < cards.size(); i++) {
+                    KanbanCard card = cards.get(i);
+                    RankUpdate rankUpdate = new RankUpdate(card.getId(), card.getRank(), ranks.get(i));
+                    respaced.add(rankUpdate);
+                    assigned.put(card.getId(), ranks.get(i));
+                    if (!ranks.get(i).equals(card.getRank())) {
+                        cardUpdates.add(rankUpdate);
+                    }
+                }
+                respacedByList.put(entry.getKey(), respaced);
+            }
+            int matched = kanbanCardRepository.updateRanks(cardUpdates, changeSeq);
+            if (matched < cardUpdates.size()) {
+                logger.debug("{} of {} cards on board {} moved during the rebalance", cardUpdates.size() - matched, cardUpdates.size(), boardId);
+            }
+            long fence = boardSequenceRepository.next(boardId);
+            try {
+                rerankStrays(boardId, respacedByList, assigned, fence);
+            } finally {
+                boardSequenceRepository.complete(boardId, fence);
+            }
+
+            List<KanbanList> lists = new ArrayList<>(board.getLists());
+            lists.sort(Comparator.comparing(KanbanList::getRank, Comparator.nullsLast(Comparator.<String>naturalOrder()))
+                    .thenComparingDouble(KanbanList::getPosition)
+                    .thenComparing(KanbanList::getId));
+            List<String> ranks = LexoRank.spread(lists.size());
+            for (int i = 0; i < lists.size(); i++) {
+                lists.get(i).setRank(ranks.get(i));
+                lists.get(i).setChangeSeq(changeSeq);
+            }
+            kanbanBoardRepository.replaceLists(boardId, board.getVersion(), lists);
+        } finally {
+            boardSequenceRepository.complete(boardId, changeSeq);
+        }
+
+        kanbanBoardCache.invalidate(boardId);
+        notificationService.sendToTopic("/topic/kanban/" + boardId, KanbanEventDTO.boardReranked(boardId, changeSeq));
+    }
+
+    // Card writers take their sequence before reading neighbour ranks, so a card sequenced before the fence that does not
+    // hold the rank it was given here was ranked against the old spacing, whether it was moved or created meanwhile.
+    // Each is put back between the re-spaced cards its rank fell between in the snapshot.
+    private void rerankStrays(UUID boardId, Map<UUID, List<RankUpdate>> respacedByList, Map<UUID, String> assigned, long fence) {
+        Map<UUID, Map<Integer, List<KanbanCard>>> straysByGap = new HashMap<>();
+        for (KanbanCard card : kanbanCardRepository.findOrderingsByBoardId(boardId)) {
+            if (card.getRank() == null || card.getRank().equals(assigned.get(card.getId()))
+                    || card.getChangeSeq() > fence) {
+                continue;
+            }
+            List<RankUpdate> respaced = respacedByList.getOrDefault(card.getListId(), List.of());
+            straysByGap.computeIfAbsent(card.getListId(), listId -> new TreeMap<>())
+                    .computeIfAbsent(gapOf(respaced, card), gap -> new ArrayList<>())
+                    .add(card);
+        }
+        if (straysByGap.isEmpty()) {
+            return;
+        }
+
+        List<RankUpdate> strayUpdates = new ArrayList<>();
+        straysByGap.forEach((listId, gaps) -> {
+            List<RankUpdate> respaced = respacedByList.getOrDefault(listId, List.of());
+            gaps.forEach((gap, strays) -> {
+                strays.sort(Comparator.comparing(KanbanCard::getRank).thenComparing(KanbanCard::getId));
+                String previous = gap == 0 ? null : respaced.get(gap - 1).rank();
+                String next = gap == respaced.size() ? null : respaced.get(gap).rank();
+                for (KanbanCard stray : strays) {
+                    previous = LexoRank.between(previous, next);
+                    strayUpdates.add(new RankUpdate(stray.getId(), stray.getRank(), previous));
+                }
+            });
+        });
+        kanbanCardRepository.updateRanks(strayUpdates, fence);
+    }
+
+    // Index of the first snapshot card ranked after the stray's current rank; only ranked snapshot cards count, and
+    // those sort first and keep their order through the re-spacing
+    private static int gapOf(List<RankUpdate> respaced, KanbanCard stray) {
+        int gap = 0;
+        while (gap < respaced.size() && respaced.get(gap).previousRank() != null
+                && respaced.get(gap).previousRank().compareTo(stray.getRank()) <= 0) {
+            gap++;
+        }
+        return gap;
+    }
+}
@@ -1,6 +1,7 @@
 package com.boardly.service;
 
-import org.springframework.messaging.simp.SimpMessagingTemplate;
+import com.boardly.service.broadcast.NotificationDispatcher;
+import com.boardly.service.broadcast.PayloadSerializer;
 import org.springframework.stereotype.Service;
 
 import java.util.UUID;
@@ -8,17 +9,19 @@ import java.util.UUID;
 @Service
 public class NotificationService {
 
-    private final SimpMessagingTemplate messagingTemplate;
+    private final NotificationDispatcher notificationDispatcher;
+    private final PayloadSerializer payloadSerializer;
 
-    public NotificationService(SimpMessagingTemplate messagingTemplate) {
-        this.messagingTemplate = messagingTemplate;
+    public NotificationService(NotificationDispatcher notificationDispatcher, PayloadSerializer payloadSerializer) {
+        this.notificationDispatcher = notificationDispatcher;
+        this.payloadSerializer = payloadSerializer;
     }
 
     public void sendToUser(UUID userId, String destination, Object payload) {
-        messagingTemplate.convertAndSendToUser(userId.toString(), destination, payload);
+        notificationDispatcher.dispatch(destination, userId, payloadSerializer.serialize(payload));
     }
 
     public void sendToTopic(String destination, Object payload) {
-        messagingTemplate.convertAndSend(destination, payload);
+        notificationDispatcher.dispatch(destination, null, payloadSerializer.serialize(payload));
     }
 }
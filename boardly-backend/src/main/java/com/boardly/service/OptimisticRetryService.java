@@ -0,0 +1,58 @@
+package com.boardly.service;
+
+import com.boardly.exception.ConflictException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+@Service
+public class OptimisticRetryService {
+    private static final Logger logger = LoggerFactory.getLogger(OptimisticRetryService.class);
+
+    @Value("${kanban.concurrency.max-attempts:4}")
+    private int maxAttempts;
+
+    @Value("${kanban.concurrency.base-backoff-ms:10}")
+    private long baseBackoffMs;
+
+    @Value("${kanban.concurrency.max-backoff-ms:200}")
+    private long maxBackoffMs;
+
+    // Re-runs the whole read-modify-write so each attempt starts from a fresh read
+    public <T> T execute(Supplier<T> operation) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return operation.get();
+            } catch (OptimisticLockingFailureException ex) {
+                if (attempt >= maxAttempts) {
+                    logger.warn("Giving up after {} conflicting attempts: {}", attempt, ex.getMessage());
+                    throw new ConflictException("The resource was modified by another request. Please retry.");
+                }
+                backoff(attempt);
+            }
+        }
+    }
+
+    public void execute(Runnable operation) {
+        execute(() -> {
+            operation.run();
+            return null;
+        });
+    }
+
+    // Full jitter: sleep a random amount up to the capped exponential delay
+    private void backoff(int attempt) {
+        long ceiling = Math.min(maxBackoffMs, baseBackoffMs << Math.min(attempt - 1, 20));
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(ceiling + 1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ConflictException("The resource was modified by another request. Please retry.");
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.boardly.service;
+
+import com.boardly.common.dto.UserDTO;
+import com.boardly.data.mapper.UserMapper;
+import com.boardly.data.model.sql.authentication.User;
+import com.boardly.data.repository.UserRepository;
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.stream.Collectors;
+
+@Service
+public class UserSummaryService {
+    private final UserRepository userRepository;
+    private final UserMapper userMapper;
+    private final LoadingCache<UUID, UserDTO> cache;
+
+    public UserSummaryService(
+            UserRepository userRepository,
+            UserMapper userMapper,
+            MeterRegistry meterRegistry,
+            @Value("${app.user-summary-cache.max-size:10000}") long maxSize,
+            @Value("${app.user-summary-cache.expire-after-write:5m}") Duration expireAfterWrite
+    ) {
+        this.userRepository = userRepository;
+        this.userMapper = userMapper;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build(new CacheLoader<>() {
+                    @Override
+                    public UserDTO load(UUID userId) {
+                        return loadAll(Set.of(userId)).get(userId);
+                    }
+
+                    @Override
+                    public Map<UUID, UserDTO> loadAll(Set<? extends UUID> userIds) {
+                        return loadSummaries(userIds);
+                    }
+                });
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "userSummaries");
+    }
+
+    // Cache misses are resolved together in a single findAllById; unknown ids are absent from the result
+    public Map<UUID, UserDTO> getSummaries(Collection<UUID> userIds) {
+        Set<UUID> ids = userIds.stream().filter(Objects::nonNull).collect(Collectors.toSet());
+        if (ids.isEmpty()) {
+            return Map.of();
+        }
+        return cache.getAll(ids);
+    }
+
+    public Optional<UserDTO> getSummary(UUID userId) {
+        return Optional.ofNullable(userId).map(cache::get);
+    }
+
+    private Map<UUID, UserDTO> loadSummaries(Set<? extends UUID> userIds) {
+        List<User> users = userRepository.findAllById(new HashSet<>(userIds));
+        return users.stream().collect(Collectors.toMap(User::getId, userMapper::toDTO));
+    }
+}
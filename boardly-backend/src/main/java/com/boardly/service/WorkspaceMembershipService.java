@@ -7,6 +7,7 @@ import com.boardly.common.dto.workspace.WorkspaceInviteDTO;
 import com.boardly.common.dto.workspace.WorkspaceMemberDTO;
 import com.boardly.common.enums.InviteStatus;
 import com.boardly.common.enums.WorkspaceRole;
+import com.boardly.common.event.BoardAccessChangedEvent;
 import com.boardly.data.mapper.UserMapper;
 import com.boardly.data.mapper.WorkspaceMapper;
 import com.boardly.data.model.sql.authentication.User;
@@ -20,6 +21,7 @@ import com.boardly.exception.ForbiddenException;
 import com.boardly.exception.ResourceNotFoundException;
 import com.boardly.security.model.AppUserDetails;
 import jakarta.transaction.Transactional;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 import java.time.Instant;
@@ -38,8 +40,9 @@ public class WorkspaceMembershipService {
     private final WorkspaceMapper workspaceMapper;
     private final BoardMemberRepository boardMemberRepository;
     private final NotificationService notificationService;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public WorkspaceMembershipService(WorkspaceRepository workspaceRepository, WorkspaceMemberRepository workspaceMemberRepository, UserRepository userRepository, WorkspaceInviteRepository workspaceInviteRepository, UserMapper userMapper, WorkspaceMapper workspaceMapper, BoardMemberRepository boardMemberRepository, NotificationService notificationService) {
+    public WorkspaceMembershipService(WorkspaceRepository workspaceRepository, WorkspaceMemberRepository workspaceMemberRepository, UserRepository userRepository, WorkspaceInviteRepository workspaceInviteRepository, UserMapper userMapper, WorkspaceMapper workspaceMapper, BoardMemberRepository boardMemberRepository, NotificationService notificationService, ApplicationEventPublisher eventPublisher) {
         this.workspaceRepository = workspaceRepository;
         this.workspaceMemberRepository = workspaceMemberRepository;
         this.userRepository = userRepository;
@@ -48,6 +51,7 @@ public class WorkspaceMembershipService {
         this.workspaceMapper = workspaceMapper;
         this.boardMemberRepository = boardMemberRepository;
         this.notificationService = notificationService;
+        this.eventPublisher = eventPublisher;
     }
 
 
@@ -75,6 +79,7 @@ public class WorkspaceMembershipService {
             throw new ForbiddenException("Workspace owners cannot leave the workspace. Please transfer ownership or delete the workspace.");
         }
         workspaceMemberRepository.delete(member);
+        eventPublisher.publishEvent(BoardAccessChangedEvent.workspaceMember(workspaceId, userId));
         notificationService.sendToTopic("/topic/workspace/" + workspaceId, "User " + appUserDetails.getUsername() + " left the workspace");
     }
 
@@ -120,6 +125,7 @@ public class WorkspaceMembershipService {
         }
         workspaceMemberRepository.delete(memberToRemove);
         boardMemberRepository.deleteAllByWorkspaceIdAndUserId(workspaceId, memberId);
+        eventPublisher.publishEvent(BoardAccessChangedEvent.workspaceMember(workspaceId, memberId));
         notificationService.sendToUser(memberId, "/queue/workspace", "You have been removed from the workspace");
         notificationService.sendToTopic("/topic/workspace/" + workspaceId, "User " + memberToRemove.getUser().getUsername() + " has been removed from the workspace");
     }
@@ -149,6 +155,7 @@ public class WorkspaceMembershipService {
         newMember.setUser(invite.getInvitee());
         newMember.setRole(WorkspaceRole.MEMBER);
         workspaceMemberRepository.save(newMember);
+        eventPublisher.publishEvent(BoardAccessChangedEvent.workspaceMember(invite.getWorkspace().getId(), appUserDetails.getUserId()));
 
         invite.setStatus(InviteStatus.ACCEPTED);
         workspaceInviteRepository.save(invite);
@@ -203,6 +210,7 @@ public class WorkspaceMembershipService {
 
         targetMember.setRole(newRole);
         workspaceMemberRepository.save(targetMember);
+        eventPublisher.publishEvent(BoardAccessChangedEvent.workspaceMember(workspaceId, memberId));
 
         UserDTO userDTO = userMapper.toDTO(targetMember.getUser());
         notificationService.sendToUser(memberId, "/queue/workspace", "Your role in the workspace has been changed to " + newRole);
@@ -227,6 +235,8 @@ public class WorkspaceMembershipService {
 
         workspaceMemberRepository.save(currentOwner);
         workspaceMemberRepository.save(newOwner);
+        eventPublisher.publishEvent(BoardAccessChangedEvent.workspaceMember(workspaceId, currentUser.getUserId()));
+        eventPublisher.publishEvent(BoardAccessChangedEvent.workspaceMember(workspaceId, newOwnerId));
 
         UserDTO userDTO = userMapper.toDTO(newOwner.getUser());
         notificationService.sendToUser(newOwnerId, "/queue/workspace", "You are now the owner of the workspace");
@@ -235,7 +245,7 @@ public class WorkspaceMembershipService {
     }
 
     public List<WorkspaceInviteDTO> getUserPendingWorkspaceInvites(AppUserDetails currentUser) {
-        return workspaceInviteRepository.findAllByInviteeAndStatus(currentUser.getUser(), InviteStatus.PENDING).stream()
+        return workspaceInviteRepository.findAllByInvitee_IdAndStatus(currentUser.getUserId(), InviteStatus.PENDING).stream()
                 .map(invite -> new WorkspaceInviteDTO(
                         invite.getId(),
                         new WorkspaceDTO(
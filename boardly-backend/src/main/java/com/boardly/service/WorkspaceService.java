@@ -3,6 +3,7 @@ package com.boardly.service;
 import com.boardly.common.dto.workspace.*;
 import com.boardly.common.enums.BoardCreationSetting;
 import com.boardly.common.enums.WorkspaceRole;
+import com.boardly.common.event.BoardAccessChangedEvent;
 import com.boardly.data.mapper.WorkspaceMapper;
 import com.boardly.data.model.sql.workspace.Workspace;
 import com.boardly.data.model.sql.workspace.WorkspaceBoardCreationSetting;
@@ -13,6 +14,7 @@ import com.boardly.data.repository.WorkspaceRepository;
 import com.boardly.exception.ResourceNotFoundException;
 import com.boardly.security.model.AppUserDetails;
 import jakarta.transaction.Transactional;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -24,12 +26,14 @@ public class WorkspaceService {
     private final WorkspaceMemberRepository workspaceMemberRepository;
     private final WorkspaceMapper workspaceMapper;
     private final BoardRepository boardRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public WorkspaceService(WorkspaceRepository workspaceRepository, WorkspaceMemberRepository workspaceMemberRepository, WorkspaceMapper workspaceMapper, BoardRepository boardRepository) {
+    public WorkspaceService(WorkspaceRepository workspaceRepository, WorkspaceMemberRepository workspaceMemberRepository, WorkspaceMapper workspaceMapper, BoardRepository boardRepository, ApplicationEventPublisher eventPublisher) {
         this.workspaceRepository = workspaceRepository;
         this.workspaceMemberRepository = workspaceMemberRepository;
         this.workspaceMapper = workspaceMapper;
         this.boardRepository = boardRepository;
+        this.eventPublisher = eventPublisher;
     }
 
     @Transactional
@@ -57,6 +61,7 @@ public class WorkspaceService {
         workspaceRepository.delete(workspace);
 
         boardRepository.deleteAllByWorkspace(workspace);
+        eventPublisher.publishEvent(BoardAccessChangedEvent.workspace(workspaceId));
     }
 
     public WorkspaceDetailsDTO getWorkspaceDetails(UUID workspaceId) {
@@ -66,7 +71,7 @@ public class WorkspaceService {
 
 
     public List<WorkspaceDTO> getAllWorkspacesForUser(AppUserDetails userPrincipal) {
-        return workspaceRepository.findAllWorkspaceDTOsByUser(userPrincipal.getUser());
+        return workspaceRepository.findAllWorkspaceDTOsByUserId(userPrincipal.getUserId());
     }
 
     @Transactional
@@ -89,6 +94,7 @@ public class WorkspaceService {
         workspace.setBoardCreationSettings(boardCreationSettings);
 
         workspaceRepository.save(workspace);
+        eventPublisher.publishEvent(BoardAccessChangedEvent.workspace(workspaceId));
     }
 
 }
@@ -0,0 +1,162 @@
+package com.boardly.service.broadcast;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+// Fan-out runs on a fixed set of lanes, each a bounded queue drained by one thread. Tasks with the same ordering key
+// (the board, workspace or user a destination belongs to) always land on the same lane and so go out in order.
+@Component
+public class BroadcastExecutor implements DisposableBean {
+    private static final Logger logger = LoggerFactory.getLogger(BroadcastExecutor.class);
+
+    public enum RejectionPolicy {
+        // Waits up to offer-timeout for room and drops the task after that; the only policy that never reorders.
+        BLOCK,
+        // Degrades to the old synchronous send; that one task may overtake its lane's backlog.
+        CALLER_RUNS,
+        DROP
+    }
+
+    private final List<BlockingQueue<QueuedTask>> lanes;
+    private final List<Thread> workers = new ArrayList<>();
+    private final RejectionPolicy rejectionPolicy;
+    private final long offerTimeoutNanos;
+    private final Timer latency;
+    private final Counter rejected;
+    private volatile boolean running = true;
+
+    public BroadcastExecutor(MeterRegistry meterRegistry,
+                             @Value("${app.notification-dispatch.lanes:8}") int laneCount,
+                             @Value("${app.notification-dispatch.queue-capacity:1000}") int queueCapacity,
+                             @Value("${app.notification-dispatch.virtual-threads:true}") boolean virtualThreads,
+                             @Value("${app.notification-dispatch.rejection-policy:block}") RejectionPolicy rejectionPolicy,
+                             @Value("${app.notification-dispatch.offer-timeout:250ms}") Duration offerTimeout) {
+        this.rejectionPolicy = rejectionPolicy;
+        this.offerTimeoutNanos = offerTimeout.toNanos();
+        this.lanes = new ArrayList<>(laneCount);
+        ThreadFactory threadFactory = virtualThreads
+                ? Thread.ofVirtual().name("notification-dispatch-", 0).factory()
+                : Thread.ofPlatform().name("notification-dispatch-", 0).daemon().factory();
+        for (int i = 0; i < laneCount; i++) {
+            BlockingQueue<QueuedTask> lane = new ArrayBlockingQueue<>(queueCapacity);
+            lanes.add(lane);
+            Thread worker = threadFactory.newThread(() -> drain(lane));
+            workers.add(worker);
+            worker.start();
+        }
+        this.latency = Timer.builder("notification.dispatch.latency")
+                .description("Time from queueing a broadcast to finishing its fan-out")
+                .register(meterRegistry);
+        this.rejected = Counter.builder("notification.dispatch.rejected")
+                .description("Broadcasts that found their lane full")
+                .tag("policy", rejectionPolicy.name().toLowerCase())
+                .register(meterRegistry);
+        Gauge.builder("notification.dispatch.queue.depth", lanes, queues -> queues.stream().mapToInt(BlockingQueue::size).sum())
+                .description("Broadcasts waiting across all dispatch lanes")
+                .register(meterRegistry);
+    }
+
+    // Completes once the task has run, or exceptionally if it failed or its lane was full and it was dropped
+    public CompletableFuture<Void> submit(String orderingKey, Runnable task) {
+        return submit(orderingKey, task, true);
+    }
+
+    // With mayWait false a full lane is handled at once, so BLOCK drops instead of stalling the caller
+    public CompletableFuture<Void> submit(String orderingKey, Runnable task, boolean mayWait) {
+        BlockingQueue<QueuedTask> lane = lane(orderingKey);
+        CompletableFuture<Void> completion = new CompletableFuture<>();
+        QueuedTask queued = new QueuedTask(task, completion, System.nanoTime());
+        if (lane.offer(queued) || (mayWait && rejectionPolicy == RejectionPolicy.BLOCK && offerWithTimeout(lane, queued))) {
+            return completion;
+        }
+        rejected.increment();
+        if (rejectionPolicy == RejectionPolicy.CALLER_RUNS) {
+            queued.run();
+        } else {
+            logger.debug("Dropping broadcast for {}, dispatch lane is full", orderingKey);
+            completion.completeExceptionally(new RejectedExecutionException("Dispatch lane for " + orderingKey + " is full"));
+        }
+        return completion;
+    }
+
+    // Queues the task only if its lane has room right now; null means it was full and nothing was queued
+    public CompletableFuture<Void> tryOffer(String orderingKey, Runnable task) {
+        CompletableFuture<Void> completion = new CompletableFuture<>();
+        return lane(orderingKey).offer(new QueuedTask(task, completion, System.nanoTime())) ? completion : null;
+    }
+
+    private BlockingQueue<QueuedTask> lane(String orderingKey) {
+        return lanes.get(Math.floorMod(orderingKey.hashCode(), lanes.size()));
+    }
+
+    private boolean offerWithTimeout(BlockingQueue<QueuedTask> lane, QueuedTask queued) {
+        try {
+            return lane.offer(queued, offerTimeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    // "/topic/kanban/{boardId}/card/{cardId}" orders by boardId, so every topic of a board shares a lane.
+    public static String orderingKey(String destination) {
+        int first = destination.indexOf('/', 1);
+        int second = first < 0 ? -1 : destination.indexOf('/', first + 1);
+        if (second < 0) {
+            return destination;
+        }
+        int third = destination.indexOf('/', second + 1);
+        return destination.substring(second + 1, third < 0 ? destination.length() : third);
+    }
+
+    private void drain(BlockingQueue<QueuedTask> lane) {
+        while (running) {
+            QueuedTask queued;
+            try {
+                queued = lane.take();
+            } catch (InterruptedException e) {
+                return;
+            }
+            try {
+                queued.run();
+            } finally {
+                latency.record(System.nanoTime() - queued.queuedAt(), TimeUnit.NANOSECONDS);
+            }
+        }
+    }
+
+    @Override
+    public void destroy() {
+        running = false;
+        workers.forEach(Thread::interrupt);
+    }
+
+    private record QueuedTask(Runnable task, CompletableFuture<Void> completion, long queuedAt) {
+        void run() {
+            try {
+                task.run();
+                completion.complete(null);
+            } catch (RuntimeException e) {
+                logger.warn("Broadcast dispatch failed", e);
+                completion.completeExceptionally(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package com.boardly.service.broadcast;
+
+import java.util.UUID;
+
+public interface BroadcastFanout {
+    void sendToTopic(String destination, SerializedPayload payload);
+
+    void sendToUser(UUID userId, String destination, SerializedPayload payload);
+}
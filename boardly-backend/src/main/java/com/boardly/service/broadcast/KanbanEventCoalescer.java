@@ -0,0 +1,196 @@
+package com.boardly.service.broadcast;
+
+import com.boardly.common.enums.KanbanEventType;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+// Buffers kanban events per destination for a short window. A run of updates to the same fields of a card or list
+// collapses to its latest state; anything else keeps its place so clients still apply events in order.
+// One thread flushes every board, so it never waits on a full lane: the batch stays pending and keeps absorbing new
+// events until the lane has room, and after offer-timeout it is handed to the lane's rejection policy without waiting.
+@Component
+public class KanbanEventCoalescer implements DisposableBean {
+    private static final Logger logger = LoggerFactory.getLogger(KanbanEventCoalescer.class);
+
+    private final BroadcastFanout broadcastFanout;
+    private final BroadcastExecutor broadcastExecutor;
+    private final ObjectMapper objectMapper;
+    private final byte[] batchPrefix;
+    private final long windowMillis;
+    private final long maxDeferralNanos;
+    private final Map<String, PendingBatch> pending = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService scheduler;
+
+    public KanbanEventCoalescer(BroadcastFanout broadcastFanout,
+                                BroadcastExecutor broadcastExecutor,
+                                ObjectMapper objectMapper,
+                                @Value("${kanban.broadcast.coalesce-window:40ms}") Duration window,
+                                @Value("${app.notification-dispatch.offer-timeout:250ms}") Duration maxDeferral) {
+        this.broadcastFanout = broadcastFanout;
+        this.broadcastExecutor = broadcastExecutor;
+        this.objectMapper = objectMapper;
+        try {
+            this.batchPrefix = ("{\"type\":" + objectMapper.writeValueAsString(KanbanEventType.BATCH) + ",\"data\":[")
+                    .getBytes(StandardCharsets.UTF_8);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to encode the batch event type", e);
+        }
+        this.windowMillis = window.toMillis();
+        this.maxDeferralNanos = maxDeferral.toNanos();
+        this.scheduler = windowMillis > 0 ? Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "kanban-event-coalescer");
+            thread.setDaemon(true);
+            return thread;
+        }) : null;
+    }
+
+    public boolean isEnabled() {
+        return scheduler != null;
+    }
+
+    // Completes once the batch holding the event, or the event that superseded it, has been fanned out
+    public CompletableFuture<Void> submit(String destination, SerializedPayload payload) {
+        if (!isEnabled()) {
+            return send(destination, payload);
+        }
+        CompletableFuture<Void> completion = new CompletableFuture<>();
+        pending.compute(destination, (key, batch) -> {
+            if (batch == null) {
+                batch = new PendingBatch();
+                scheduler.schedule(() -> flush(key, false), windowMillis, TimeUnit.MILLISECONDS);
+            }
+            batch.add(payload, completion);
+            return batch;
+        });
+        return completion;
+    }
+
+    private void flush(String destination, boolean finalFlush) {
+        PendingBatch batch = pending.remove(destination);
+        if (batch == null) {
+            return;
+        }
+        try {
+            SerializedPayload payload = batch.payloads.size() == 1
+                    ? batch.payloads.getFirst()
+                    : new SerializedPayload(toBatchEvent(batch.payloads), false);
+            String orderingKey = BroadcastExecutor.orderingKey(destination);
+            Runnable task = () -> broadcastFanout.sendToTopic(destination, payload);
+            CompletableFuture<Void> sent = broadcastExecutor.tryOffer(orderingKey, task);
+            if (sent == null) {
+                if (!finalFlush && System.nanoTime() - batch.createdAt < maxDeferralNanos) {
+                    defer(destination, batch);
+                    return;
+                }
+                sent = broadcastExecutor.submit(orderingKey, task, false);
+            }
+            sent.whenComplete((done, failure) -> batch.complete(failure));
+        } catch (RuntimeException e) {
+            logger.warn("Failed to flush {} kanban events to {}", batch.payloads.size(), destination, e);
+            batch.complete(e);
+        }
+    }
+
+    // Puts the batch back ahead of anything submitted since it was taken, so the events still leave in order
+    private void defer(String destination, PendingBatch batch) {
+        pending.compute(destination, (key, newer) -> {
+            if (newer == null) {
+                scheduler.schedule(() -> flush(key, false), windowMillis, TimeUnit.MILLISECONDS);
+            } else {
+                batch.absorb(newer);
+            }
+            return batch;
+        });
+    }
+
+    private CompletableFuture<Void> send(String destination, SerializedPayload payload) {
+        return broadcastExecutor.submit(BroadcastExecutor.orderingKey(destination), () -> broadcastFanout.sendToTopic(destination, payload));
+    }
+
+    // Same envelope as a single event, so clients only ever receive KanbanEventDTO objects
+    private byte[] toBatchEvent(List<SerializedPayload> payloads) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.writeBytes(batchPrefix);
+        for (int i = 0; i < payloads.size(); i++) {
+            if (i > 0) {
+                out.write(',');
+            }
+            SerializedPayload payload = payloads.get(i);
+            out.writeBytes(payload.text() ? quote(payload.body()) : payload.body());
+        }
+        out.write(']');
+        out.write('}');
+        return out.toByteArray();
+    }
+
+    private byte[] quote(byte[] text) {
+        try {
+            return objectMapper.writeValueAsBytes(new String(text, StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to encode text event", e);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        if (scheduler != null) {
+            scheduler.shutdown();
+            pending.keySet().forEach(destination -> flush(destination, true));
+        }
+    }
+
+    private static final class PendingBatch {
+        private final List<SerializedPayload> payloads = new ArrayList<>();
+        private final List<CompletableFuture<Void>> completions = new ArrayList<>();
+        private final long createdAt = System.nanoTime();
+
+        // Only back-to-back events merge; an update that jumped ahead of an unrelated event could reference state
+        // (a freshly created list, say) the client has not seen yet.
+        void add(SerializedPayload payload, CompletableFuture<Void> completion) {
+            if (completion != null) {
+                completions.add(completion);
+            }
+            int last = payloads.size() - 1;
+            if (payload.stateKey() != null && last >= 0 && payload.stateKey().equals(payloads.get(last).stateKey())) {
+                payloads.set(last, payload);
+                return;
+            }
+            payloads.add(payload);
+        }
+
+        void absorb(PendingBatch newer) {
+            for (SerializedPayload payload : newer.payloads) {
+                add(payload, null);
+            }
+            completions.addAll(newer.completions);
+        }
+
+        void complete(Throwable failure) {
+            for (CompletableFuture<Void> completion : completions) {
+                if (failure == null) {
+                    completion.complete(null);
+                } else {
+                    completion.completeExceptionally(failure);
+                }
+            }
+        }
+    }
+}
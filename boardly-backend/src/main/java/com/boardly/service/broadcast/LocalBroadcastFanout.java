@@ -0,0 +1,27 @@
+package com.boardly.service.broadcast;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+@Component
+@ConditionalOnProperty(name = "app.websocket.fanout.mode", havingValue = "local", matchIfMissing = true)
+public class LocalBroadcastFanout implements BroadcastFanout {
+    private final SimpMessagingTemplate messagingTemplate;
+
+    public LocalBroadcastFanout(SimpMessagingTemplate messagingTemplate) {
+        this.messagingTemplate = messagingTemplate;
+    }
+
+    @Override
+    public void sendToTopic(String destination, SerializedPayload payload) {
+        messagingTemplate.send(destination, payload.toMessage());
+    }
+
+    @Override
+    public void sendToUser(UUID userId, String destination, SerializedPayload payload) {
+        messagingTemplate.send(messagingTemplate.getUserDestinationPrefix() + userId + destination, payload.toMessage());
+    }
+}
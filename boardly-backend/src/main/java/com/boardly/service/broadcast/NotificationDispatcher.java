@@ -0,0 +1,188 @@
+package com.boardly.service.broadcast;
+
+import com.boardly.data.model.sql.notification.OutboxEvent;
+import com.boardly.data.repository.OutboxEventRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// Notifications raised inside a transaction are written to the outbox with it and only reach the broker once it
+// commits; a rollback discards them. Outside a transaction they go straight to the dispatch lanes. Drained rows take
+// the same coalescer and lanes as live notifications and are deleted only once their fan-out has finished, so delivery
+// is at least once: a crash or a dropped send leaves the row to be sent again once its lease runs out. Each retry
+// waits twice as long as the one before, and a row that fails max-attempts times stays in the table as a dead letter.
+@Component
+public class NotificationDispatcher implements DisposableBean {
+    private static final Logger logger = LoggerFactory.getLogger(NotificationDispatcher.class);
+
+    private final BroadcastFanout broadcastFanout;
+    private final BroadcastExecutor broadcastExecutor;
+    private final KanbanEventCoalescer kanbanEventCoalescer;
+    private final OutboxEventRepository outboxEventRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean outboxEnabled;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final Duration deliveryTimeout;
+    private final ExecutorService drainExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "notification-outbox");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicBoolean drainQueued = new AtomicBoolean();
+
+    public NotificationDispatcher(BroadcastFanout broadcastFanout,
+                                  BroadcastExecutor broadcastExecutor,
+                                  KanbanEventCoalescer kanbanEventCoalescer,
+                                  OutboxEventRepository outboxEventRepository,
+                                  TransactionTemplate transactionTemplate,
+                                  @Value("${app.notification-outbox.enabled:true}") boolean outboxEnabled,
+                                  @Value("${app.notification-outbox.batch-size:200}") int batchSize,
+                                  @Value("${app.notification-outbox.max-attempts:10}") int maxAttempts,
+                                  @Value("${app.notification-outbox.delivery-timeout:10s}") Duration deliveryTimeout) {
+        this.broadcastFanout = broadcastFanout;
+        this.broadcastExecutor = broadcastExecutor;
+        this.kanbanEventCoalescer = kanbanEventCoalescer;
+        this.outboxEventRepository = outboxEventRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.outboxEnabled = outboxEnabled;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.deliveryTimeout = deliveryTimeout;
+    }
+
+    public void dispatch(String destination, UUID recipientId, SerializedPayload payload) {
+        if (!outboxEnabled || !TransactionSynchronizationManager.isActualTransactionActive()) {
+            deliverAsync(destination, recipientId, payload);
+            return;
+        }
+        outboxEventRepository.save(OutboxEvent.builder()
+                .destination(destination)
+                .recipientId(recipientId)
+                .payload(payload.body())
+                .text(payload.text())
+                .stateKey(payload.stateKey())
+                .build());
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                drainSoon();
+            }
+        });
+    }
+
+    // Picks up rows left behind by a restart or committed on a node that went away before draining them.
+    @Scheduled(fixedDelayString = "${app.notification-outbox.poll-interval:5s}")
+    public void drainPending() {
+        if (outboxEnabled) {
+            drainSoon();
+        }
+    }
+
+    private void drainSoon() {
+        if (drainQueued.compareAndSet(false, true)) {
+            drainExecutor.execute(() -> {
+                drainQueued.set(false);
+                drain();
+            });
+        }
+    }
+
+    // Rows are claimed and deleted in two short transactions with the deliveries in between, so no lock is held while
+    // waiting on the broker. A batch with any undelivered row ends the drain instead of spinning on it.
+    private void drain() {
+        try {
+            int delivered;
+            do {
+                List<OutboxEvent> batch = claimNextBatch();
+                List<CompletableFuture<Void>> deliveries = new ArrayList<>(batch.size());
+                for (OutboxEvent event : batch) {
+                    deliveries.add(deliverAsync(event.getDestination(), event.getRecipientId(),
+                            new SerializedPayload(event.getPayload(), event.isText(), event.getStateKey())));
+                }
+                List<Long> done = new ArrayList<>(batch.size());
+                long deadline = System.currentTimeMillis() + deliveryTimeout.toMillis();
+                for (int i = 0; i < batch.size(); i++) {
+                    OutboxEvent event = batch.get(i);
+                    if (awaitDelivery(deliveries.get(i), deadline)) {
+                        done.add(event.getId());
+                    } else if (event.getAttempts() >= maxAttempts) {
+                        logger.error("Outbox notification {} to {} failed {} times, leaving it as a dead letter",
+                                event.getId(), event.getDestination(), event.getAttempts());
+                    }
+                }
+                if (!done.isEmpty()) {
+                    transactionTemplate.executeWithoutResult(status -> outboxEventRepository.deleteAllByIdInBatch(done));
+                }
+                delivered = done.size();
+            } while (delivered == batchSize);
+        } catch (RuntimeException e) {
+            logger.warn("Draining the notification outbox failed, retrying on the next poll", e);
+        }
+    }
+
+    // The lease outlasts the delivery wait and doubles with every attempt, which is the retry backoff
+    private List<OutboxEvent> claimNextBatch() {
+        return transactionTemplate.execute(status -> {
+            Instant now = Instant.now();
+            List<OutboxEvent> batch = outboxEventRepository.lockNextBatch(now, maxAttempts, batchSize);
+            for (OutboxEvent event : batch) {
+                event.claim(now.plus(deliveryTimeout.multipliedBy(2L << Math.min(event.getAttempts(), 16))));
+            }
+            return batch;
+        });
+    }
+
+    private boolean awaitDelivery(CompletableFuture<Void> delivery, long deadline) {
+        try {
+            delivery.get(Math.max(deadline - System.currentTimeMillis(), 0), TimeUnit.MILLISECONDS);
+            return true;
+        } catch (ExecutionException | TimeoutException e) {
+            logger.debug("Outbox notification was not delivered, keeping it for the next poll", e);
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private CompletableFuture<Void> deliverAsync(String destination, UUID recipientId, SerializedPayload payload) {
+        if (destination.startsWith("/topic/kanban/")) {
+            return kanbanEventCoalescer.submit(destination, payload);
+        }
+        String orderingKey = recipientId != null ? recipientId.toString() : BroadcastExecutor.orderingKey(destination);
+        return broadcastExecutor.submit(orderingKey, () -> deliver(destination, recipientId, payload));
+    }
+
+    private void deliver(String destination, UUID recipientId, SerializedPayload payload) {
+        if (recipientId != null) {
+            broadcastFanout.sendToUser(recipientId, destination, payload);
+        } else {
+            broadcastFanout.sendToTopic(destination, payload);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        drainExecutor.shutdown();
+    }
+}
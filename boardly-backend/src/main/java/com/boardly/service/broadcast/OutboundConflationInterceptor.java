@@ -0,0 +1,187 @@
+package com.boardly.service.broadcast;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHandler;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.ExecutorChannelInterceptor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.WebSocketHandlerDecorator;
+import org.springframework.web.socket.handler.WebSocketHandlerDecoratorFactory;
+import org.springframework.web.socket.handler.WebSocketSessionDecorator;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+// A card update frame carries the current value of every field it names, so once a session has a newer frame for the
+// same card and fields on its way, the older one is dropped instead of being written to a socket that is falling
+// behind. That is checked twice: while the frame waits on the outbound channel, and again as Spring's per-session send
+// buffer hands it to the socket, which is where a slow session's backlog actually builds up.
+@Component
+public class OutboundConflationInterceptor implements ExecutorChannelInterceptor, WebSocketHandlerDecoratorFactory {
+    static final String STATE_KEY_HEADER = "boardly-state-key";
+    static final String GENERATION_HEADER = "boardly-state-generation";
+
+    // sessionId -> subscriptionId:stateKey -> generation of the newest frame sent to the channel
+    private final Map<String, Map<String, Long>> latest = new ConcurrentHashMap<>();
+    private final AtomicLong generations = new AtomicLong();
+    private final Counter conflated;
+
+    public OutboundConflationInterceptor(MeterRegistry meterRegistry) {
+        this.conflated = Counter.builder("websocket.outbound.conflated")
+                .description("Kanban card frames dropped because a newer frame for the same card and fields was queued")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        String stateKey = conflatableStateKey(message);
+        String sessionId = SimpMessageHeaderAccessor.getSessionId(message.getHeaders());
+        if (stateKey == null || sessionId == null) {
+            return message;
+        }
+        long generation = generations.incrementAndGet();
+        latest.computeIfAbsent(sessionId, id -> new ConcurrentHashMap<>())
+                .put(SimpMessageHeaderAccessor.getSubscriptionId(message.getHeaders()) + ':' + stateKey, generation);
+
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(message);
+        accessor.setNativeHeader(STATE_KEY_HEADER, stateKey);
+        accessor.setNativeHeader(GENERATION_HEADER, Long.toString(generation));
+        return MessageBuilder.createMessage(message.getPayload(), accessor.getMessageHeaders());
+    }
+
+    @Override
+    public Message<?> beforeHandle(Message<?> message, MessageChannel channel, MessageHandler handler) {
+        MessageHeaders headers = message.getHeaders();
+        String sessionId = SimpMessageHeaderAccessor.getSessionId(headers);
+        String stateKey = SimpMessageHeaderAccessor.getFirstNativeHeader(STATE_KEY_HEADER, headers);
+        String generation = SimpMessageHeaderAccessor.getFirstNativeHeader(GENERATION_HEADER, headers);
+        if (sessionId != null && stateKey != null && generation != null
+                && isSuperseded(sessionId, SimpMessageHeaderAccessor.getSubscriptionId(headers) + ':' + stateKey, Long.parseLong(generation))) {
+            conflated.increment();
+            return null;
+        }
+        return message;
+    }
+
+    @Override
+    public WebSocketHandler decorate(WebSocketHandler handler) {
+        return new WebSocketHandlerDecorator(handler) {
+            // Spring wraps the session it is given in its buffering decorator, so this one sits underneath the buffer
+            @Override
+            public void afterConnectionEstablished(WebSocketSession session) throws Exception {
+                super.afterConnectionEstablished(new ConflatingSession(session));
+            }
+
+            @Override
+            public void afterConnectionClosed(WebSocketSession session, CloseStatus closeStatus) throws Exception {
+                latest.remove(session.getId());
+                super.afterConnectionClosed(session, closeStatus);
+            }
+        };
+    }
+
+    private boolean isSuperseded(String sessionId, String key, long generation) {
+        Map<String, Long> session = latest.get(sessionId);
+        Long newest = session == null ? null : session.get(key);
+        return newest != null && newest > generation;
+    }
+
+    private static String conflatableStateKey(Message<?> message) {
+        String stateKey = message.getHeaders().get(SerializedPayload.STATE_KEY_HEADER, String.class);
+        if (stateKey == null || !stateKey.startsWith("card:")
+                || SimpMessageHeaderAccessor.getMessageType(message.getHeaders()) != SimpMessageType.MESSAGE) {
+            return null;
+        }
+        return stateKey;
+    }
+
+    private final class ConflatingSession extends WebSocketSessionDecorator {
+        ConflatingSession(WebSocketSession session) {
+            super(session);
+        }
+
+        @Override
+        public void sendMessage(WebSocketMessage<?> message) throws IOException {
+            if (message instanceof TextMessage text && text.getPayload().startsWith("MESSAGE\n")) {
+                FrameHeaders frame = FrameHeaders.parse(text.getPayload());
+                if (frame.stateKey() != null && frame.generation() != null) {
+                    String key = frame.subscription() + ':' + frame.stateKey();
+                    long generation = Long.parseLong(frame.generation());
+                    if (isSuperseded(getId(), key, generation)) {
+                        conflated.increment();
+                        return;
+                    }
+                    Map<String, Long> session = latest.get(getId());
+                    if (session != null) {
+                        session.remove(key, generation);
+                    }
+                }
+            }
+            super.sendMessage(message);
+        }
+    }
+
+    // Only the header block is read, and only the three headers conflation needs
+    private record FrameHeaders(String subscription, String stateKey, String generation) {
+        static FrameHeaders parse(String frame) {
+            String subscription = null;
+            String stateKey = null;
+            String generation = null;
+            int start = frame.indexOf('\n') + 1;
+            while (start < frame.length()) {
+                int end = frame.indexOf('\n', start);
+                if (end < 0 || end == start) {
+                    break;
+                }
+                int colon = frame.indexOf(':', start);
+                if (colon > start && colon < end) {
+                    String name = frame.substring(start, colon);
+                    if (name.equals("subscription") && subscription == null) {
+                        subscription = unescape(frame.substring(colon + 1, end));
+                    } else if (name.equals(STATE_KEY_HEADER) && stateKey == null) {
+                        stateKey = unescape(frame.substring(colon + 1, end));
+                    } else if (name.equals(GENERATION_HEADER) && generation == null) {
+                        generation = frame.substring(colon + 1, end);
+                    }
+                }
+                start = end + 1;
+            }
+            return new FrameHeaders(subscription, stateKey, generation);
+        }
+
+        private static String unescape(String value) {
+            if (value.indexOf('\\') < 0) {
+                return value;
+            }
+            StringBuilder unescaped = new StringBuilder(value.length());
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                if (c == '\\' && i + 1 < value.length()) {
+                    char next = value.charAt(++i);
+                    unescaped.append(switch (next) {
+                        case 'c' -> ':';
+                        case 'n' -> '\n';
+                        case 'r' -> '\r';
+                        default -> next;
+                    });
+                } else {
+                    unescaped.append(c);
+                }
+            }
+            return unescaped.toString();
+        }
+    }
+}
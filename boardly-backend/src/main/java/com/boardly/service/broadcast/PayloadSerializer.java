@@ -0,0 +1,42 @@
+package com.boardly.service.broadcast;
+
+import com.boardly.common.dto.kanbanboard.KanbanEventDTO;
+import com.boardly.config.PreRenderedJsonModule;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+@Component
+public class PayloadSerializer {
+    private final ObjectMapper objectMapper;
+
+    public PayloadSerializer(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    // Plain strings go out as text, matching what convertAndSend did with StringMessageConverter.
+    public SerializedPayload serialize(Object payload) {
+        if (payload instanceof String text) {
+            return new SerializedPayload(text.getBytes(StandardCharsets.UTF_8), true);
+        }
+        try {
+            if (payload instanceof KanbanEventDTO event) {
+                // Rendered on its own first so the REST response returning the same DTO reuses these bytes; without a
+                // request there is no response to reuse them, and the event below renders the data anyway
+                if (event.getData() != null && !(event.getData() instanceof Map) && RequestContextHolder.getRequestAttributes() != null) {
+                    PreRenderedJsonModule.remember(event.getData(), objectMapper.writeValueAsBytes(event.getData()));
+                }
+                return new SerializedPayload(objectMapper.writeValueAsBytes(event), false, event.getStateKey());
+            }
+            byte[] body = objectMapper.writeValueAsBytes(payload);
+            PreRenderedJsonModule.remember(payload, body);
+            return new SerializedPayload(body, false, null);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize broadcast payload", e);
+        }
+    }
+}
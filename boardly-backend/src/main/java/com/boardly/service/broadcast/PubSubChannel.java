@@ -0,0 +1,9 @@
+package com.boardly.service.broadcast;
+
+import java.util.function.Consumer;
+
+public interface PubSubChannel {
+    void publish(String channel, byte[] message);
+
+    void subscribe(String channel, Consumer<byte[]> listener);
+}
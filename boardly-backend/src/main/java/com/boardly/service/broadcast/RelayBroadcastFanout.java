@@ -0,0 +1,69 @@
+package com.boardly.service.broadcast;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.UUID;
+
+// Every node, the publisher included, delivers relayed messages to its own sessions when they come back from the channel.
+@Component
+@ConditionalOnProperty(name = "app.websocket.fanout.mode", havingValue = "relay")
+public class RelayBroadcastFanout implements BroadcastFanout {
+    private static final Logger logger = LoggerFactory.getLogger(RelayBroadcastFanout.class);
+
+    private final SimpMessagingTemplate messagingTemplate;
+    private final PubSubChannel pubSubChannel;
+    private final ObjectMapper objectMapper;
+    private final String channel;
+
+    public RelayBroadcastFanout(SimpMessagingTemplate messagingTemplate, PubSubChannel pubSubChannel, ObjectMapper objectMapper,
+                                @Value("${app.websocket.fanout.channel:boardly:broadcast}") String channel) {
+        this.messagingTemplate = messagingTemplate;
+        this.pubSubChannel = pubSubChannel;
+        this.objectMapper = objectMapper;
+        this.channel = channel;
+        pubSubChannel.subscribe(channel, this::deliver);
+    }
+
+    @Override
+    public void sendToTopic(String destination, SerializedPayload payload) {
+        publish(new RelayedMessage(destination, null, payload.body(), payload.text(), payload.stateKey()));
+    }
+
+    @Override
+    public void sendToUser(UUID userId, String destination, SerializedPayload payload) {
+        publish(new RelayedMessage(destination, userId.toString(), payload.body(), payload.text(), payload.stateKey()));
+    }
+
+    private void publish(RelayedMessage message) {
+        try {
+            pubSubChannel.publish(channel, objectMapper.writeValueAsBytes(message));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void deliver(byte[] raw) {
+        RelayedMessage message;
+        try {
+            message = objectMapper.readValue(raw, RelayedMessage.class);
+        } catch (IOException e) {
+            logger.warn("Dropping unreadable relayed message", e);
+            return;
+        }
+        String destination = message.user() == null
+                ? message.destination()
+                : messagingTemplate.getUserDestinationPrefix() + message.user() + message.destination();
+        messagingTemplate.send(destination, new SerializedPayload(message.payload(), message.text(), message.stateKey()).toMessage());
+    }
+
+    record RelayedMessage(String destination, String user, byte[] payload, boolean text, String stateKey) {
+    }
+}
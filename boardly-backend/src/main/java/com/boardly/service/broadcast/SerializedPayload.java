@@ -0,0 +1,25 @@
+package com.boardly.service.broadcast;
+
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.util.MimeTypeUtils;
+
+// One serialization per event; the simple broker hands this same byte[] to every subscriber's frame.
+// stateKey names the card or list fields whose current values the payload carries, so newer events can supersede it.
+public record SerializedPayload(byte[] body, boolean text, String stateKey) {
+    public static final String STATE_KEY_HEADER = "boardlyStateKey";
+
+    public SerializedPayload(byte[] body, boolean text) {
+        this(body, text, null);
+    }
+
+    public Message<byte[]> toMessage() {
+        MessageBuilder<byte[]> builder = MessageBuilder.withPayload(body)
+                .setHeader(MessageHeaders.CONTENT_TYPE, text ? MimeTypeUtils.TEXT_PLAIN : MimeTypeUtils.APPLICATION_JSON);
+        if (stateKey != null) {
+            builder.setHeader(STATE_KEY_HEADER, stateKey);
+        }
+        return builder.build();
+    }
+}
@@ -0,0 +1,120 @@
+package com.boardly.common.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LexoRankTest {
+
+    @Test
+    void betweenOpenBoundsIsTheMiddleDigit() {
+        assertThat(LexoRank.between(null, null)).isEqualTo("i");
+    }
+
+    @Test
+    void betweenSortsStrictlyInsideItsBounds() {
+        assertBetween("a", "c", LexoRank.between("a", "c"));
+        assertBetween("a", null, LexoRank.between("a", null));
+        assertBetween(null, "a", LexoRank.between(null, "a"));
+        assertBetween("1", "1001", LexoRank.between("1", "1001"));
+    }
+
+    @Test
+    void betweenAdjacentDigitsExtendsTheLowerRank() {
+        String rank = LexoRank.between("a", "b");
+
+        assertThat(rank).startsWith("a").hasSizeGreaterThan(1);
+        assertBetween("a", "b", rank);
+    }
+
+    @Test
+    void betweenEqualBoundsSortsJustAfterTheTie() {
+        String rank = LexoRank.between("i", "i");
+
+        assertThat(rank).isGreaterThan("i").isLessThan("i1");
+        assertThat(rank).doesNotEndWith("0");
+    }
+
+    @Test
+    void betweenRejectsReversedBounds() {
+        assertThatThrownBy(() -> LexoRank.between("b", "a")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> LexoRank.between("a", "A")).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void betweenKeepsWorkingPastTheRebalanceLength() {
+        String low = "i";
+        String high = "j";
+        for (int i = 0; i < 200; i++) {
+            String rank = LexoRank.between(low, high);
+            assertBetween(low, high, rank);
+            if (i % 2 == 0) {
+                low = rank;
+            } else {
+                high = rank;
+            }
+        }
+        assertThat(low.length()).isGreaterThan(24);
+
+        String maxed = "z".repeat(24);
+        assertBetween(maxed, null, LexoRank.between(maxed, null));
+        assertBetween(null, "0".repeat(23) + "1", LexoRank.between(null, "0".repeat(23) + "1"));
+    }
+
+    @Test
+    void repeatedInsertsAtTheFrontNeverRunOutOfRoom() {
+        String first = "i";
+        for (int i = 0; i < 100; i++) {
+            String rank = LexoRank.between(null, first);
+            assertBetween(null, first, rank);
+            first = rank;
+        }
+    }
+
+    @Test
+    void spreadIsSortedUniqueAndNeverEndsInZero() {
+        for (int count : new int[]{1, 2, 35, 36, 37, 1000, 50000}) {
+            List<String> ranks = LexoRank.spread(count);
+
+            assertThat(ranks).hasSize(count).isSorted().doesNotHaveDuplicates();
+            assertThat(new HashSet<>(ranks)).hasSize(count);
+            assertThat(ranks).allSatisfy(rank -> assertThat(rank).doesNotEndWith("0"));
+        }
+    }
+
+    @Test
+    void spreadLeavesRoomAtBothEnds() {
+        List<String> ranks = LexoRank.spread(36);
+
+        assertBetween(null, ranks.getFirst(), LexoRank.between(null, ranks.getFirst()));
+        assertBetween(ranks.getLast(), null, LexoRank.between(ranks.getLast(), null));
+    }
+
+    @Test
+    void spreadOfNothingIsEmpty() {
+        assertThat(LexoRank.spread(0)).isEmpty();
+    }
+
+    @Test
+    void spreadRanksAcceptInsertsBetweenEveryNeighbour() {
+        List<String> ranks = new ArrayList<>(LexoRank.spread(100));
+        for (int i = 0; i < ranks.size() - 1; i++) {
+            assertBetween(ranks.get(i), ranks.get(i + 1), LexoRank.between(ranks.get(i), ranks.get(i + 1)));
+        }
+    }
+
+    private static void assertBetween(String low, String high, String rank) {
+        if (low != null) {
+            assertThat(rank).isGreaterThan(low);
+        }
+        if (high != null) {
+            assertThat(rank).isLessThan(high);
+        }
+        assertThat(rank).doesNotEndWith("0");
+    }
+}
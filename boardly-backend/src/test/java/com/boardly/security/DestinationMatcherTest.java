@@ -0,0 +1,97 @@
+package com.boardly.security;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DestinationMatcherTest {
+    private static final UUID BOARD_ID = UUID.fromString("3f2a9c1e-7b4d-4e8a-9c0f-1a2b3c4d5e6f");
+    private static final UUID CARD_ID = UUID.fromString("a0b1c2d3-e4f5-4a6b-8c7d-9e0f1a2b3c4d");
+
+    private final DestinationMatcher<String> matcher = new DestinationMatcher<String>()
+            .route("/user/**", "user")
+            .route("/topic/board/{boardId}", "board")
+            .route("/topic/kanban/{boardId}", "kanban")
+            .route("/topic/kanban/{boardId}/card/{cardId}", "card")
+            .route("/topic/workspace/{workspaceId}", "workspace");
+
+    @Test
+    void capturesCanonicalIds() {
+        DestinationMatcher.Match<String> match = matcher.match("/topic/kanban/" + BOARD_ID + "/card/" + CARD_ID);
+
+        assertThat(match).isNotNull();
+        assertThat(match.value()).isEqualTo("card");
+        assertThat(match.ids()).containsExactly(BOARD_ID, CARD_ID);
+    }
+
+    @Test
+    void acceptsUppercaseIds() {
+        DestinationMatcher.Match<String> match = matcher.match("/topic/board/" + BOARD_ID.toString().toUpperCase());
+
+        assertThat(match).isNotNull();
+        assertThat(match.ids()).containsExactly(BOARD_ID);
+    }
+
+    @Test
+    void rejectsNonCanonicalIds() {
+        List<String> ids = List.of(
+                "1-1-1-1-1",
+                BOARD_ID.toString().replace("-", ""),
+                BOARD_ID.toString().substring(1),
+                BOARD_ID + "0",
+                "3f2a9c1e7-b4d-4e8a-9c0f-1a2b3c4d5e6f",
+                "3f2a9c1e-7b4d-4e8a-9c0f-1a2b3c4d5e6g",
+                "{" + BOARD_ID.toString().substring(2) + "}",
+                "not-a-uuid",
+                "");
+
+        for (String id : ids) {
+            assertThat(matcher.match("/topic/board/" + id)).as(id).isNull();
+        }
+    }
+
+    @Test
+    void rejectsTrailingSlashesAndExtraSegments() {
+        assertThat(matcher.match("/topic/board/" + BOARD_ID + "/")).isNull();
+        assertThat(matcher.match("/topic/board/" + BOARD_ID + "/extra")).isNull();
+        assertThat(matcher.match("/topic/kanban/" + BOARD_ID + "/card/" + CARD_ID + "/")).isNull();
+        assertThat(matcher.match("/topic/kanban/" + BOARD_ID + "/card/" + CARD_ID + "/checklist")).isNull();
+        assertThat(matcher.match("/topic/kanban/" + BOARD_ID + "/card")).isNull();
+        assertThat(matcher.match("/topic/kanban//" + BOARD_ID)).isNull();
+    }
+
+    @Test
+    void userRemainderMatchesAnythingAfterThePrefix() {
+        assertThat(matcher.match("/user/queue/notifications").value()).isEqualTo("user");
+        assertThat(matcher.match("/user/" + BOARD_ID + "/queue/errors").value()).isEqualTo("user");
+        assertThat(matcher.match("/user/").value()).isEqualTo("user");
+        assertThat(matcher.match("/user/").ids()).isEmpty();
+    }
+
+    @Test
+    void userWithoutAnySeparatorDoesNotMatch() {
+        assertThat(matcher.match("/user")).isNull();
+        assertThat(matcher.match("/users/queue")).isNull();
+    }
+
+    @Test
+    void unknownDestinationsDoNotMatch() {
+        assertThat(matcher.match("/topic/unknown")).isNull();
+        assertThat(matcher.match("/topic/board")).isNull();
+        assertThat(matcher.match("/queue/" + BOARD_ID)).isNull();
+        assertThat(matcher.match("/TOPIC/board/" + BOARD_ID)).isNull();
+        assertThat(matcher.match("topic/board/" + BOARD_ID)).isNull();
+        assertThat(matcher.match("")).isNull();
+    }
+
+    @Test
+    void parseUuidReadsOnlyTheGivenRange() {
+        String destination = "/x/" + BOARD_ID + "/y";
+
+        assertThat(DestinationMatcher.parseUuid(destination, 3, 39)).isEqualTo(BOARD_ID);
+        assertThat(DestinationMatcher.parseUuid(destination, 2, 38)).isNull();
+    }
+}
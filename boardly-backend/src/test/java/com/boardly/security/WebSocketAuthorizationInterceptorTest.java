@@ -0,0 +1,79 @@
+package com.boardly.security;
+
+import com.boardly.service.AuthorizationSecurityService;
+import com.boardly.service.BoardAccessContext;
+import com.boardly.service.CacheInvalidationRelay;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+class WebSocketAuthorizationInterceptorTest {
+    private static final String USER_ID = "5d6e7f80-91a2-4b3c-8d4e-5f60718293a4";
+
+    private final AuthorizationSecurityService authorizationSecurityService = mock(AuthorizationSecurityService.class);
+    private final WebSocketAuthorizationInterceptor interceptor = new WebSocketAuthorizationInterceptor(
+            authorizationSecurityService,
+            mock(BoardAccessContext.class),
+            new SubscriptionGrantCache(mock(CacheInvalidationRelay.class), Duration.ofMinutes(5)));
+
+    @Test
+    void refusesUnmatchedTopicAndQueueDestinations() {
+        List<String> destinations = List.of(
+                "/topic/unknown",
+                "/topic/board",
+                "/topic/board/not-a-uuid",
+                "/topic/board/" + UUID.randomUUID() + "/",
+                "/topic/kanban/" + UUID.randomUUID() + "/extra",
+                "/queue/anything");
+
+        for (String destination : destinations) {
+            assertThatThrownBy(() -> interceptor.preSend(subscribe(destination), null))
+                    .as(destination)
+                    .isInstanceOf(SecurityException.class);
+        }
+        verifyNoInteractions(authorizationSecurityService);
+    }
+
+    @Test
+    void refusesAnotherUsersDestination() {
+        assertThatThrownBy(() -> interceptor.preSend(subscribe("/user/"), null)).isInstanceOf(SecurityException.class);
+        assertThatThrownBy(() -> interceptor.preSend(subscribe("/user/" + UUID.randomUUID() + "/queue/notifications"), null))
+                .isInstanceOf(SecurityException.class);
+    }
+
+    @Test
+    void allowsTheSubscribersOwnUserDestination() {
+        Message<?> message = subscribe("/user/" + USER_ID + "/queue/notifications");
+
+        assertThat(interceptor.preSend(message, null)).isSameAs(message);
+    }
+
+    @Test
+    void leavesDestinationsOutsideTopicAndQueueAlone() {
+        Message<?> message = subscribe("/app/ping");
+
+        assertThat(interceptor.preSend(message, null)).isSameAs(message);
+        verifyNoInteractions(authorizationSecurityService);
+    }
+
+    private static Message<?> subscribe(String destination) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.SUBSCRIBE);
+        accessor.setDestination(destination);
+        accessor.setSessionId("session-1");
+        accessor.setUser(new UsernamePasswordAuthenticationToken(USER_ID, null, List.of()));
+        accessor.setLeaveMutable(true);
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+}
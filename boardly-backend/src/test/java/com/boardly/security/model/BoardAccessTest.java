@@ -0,0 +1,100 @@
+package com.boardly.security.model;
+
+import com.boardly.common.enums.BoardCreationSetting;
+import com.boardly.common.enums.BoardRole;
+import com.boardly.common.enums.BoardVisibility;
+import com.boardly.common.enums.WorkspaceRole;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Every combination of roles, visibility and board-creation settings, checked against the rules the can* methods of
+// AuthorizationSecurityService applied one query at a time before they read the bitmask. A null role is no membership.
+class BoardAccessTest {
+
+    @ParameterizedTest(name = "workspace {0}, board {1}, {2}, private {3}, workspace-visible {4}")
+    @MethodSource("combinations")
+    void grantsWhatTheSeparateChecksAllowed(WorkspaceRole workspaceRole, BoardRole boardRole, BoardVisibility visibility,
+                                            BoardCreationSetting privateBoardCreation, BoardCreationSetting workspaceVisibleBoardCreation) {
+        BoardAccess access = new BoardAccess(UUID.randomUUID(), UUID.randomUUID(), visibility, workspaceRole, boardRole,
+                privateBoardCreation, workspaceVisibleBoardCreation);
+
+        for (BoardPermission permission : BoardPermission.values()) {
+            assertThat(access.has(permission))
+                    .as(permission.name())
+                    .isEqualTo(expected(workspaceRole, boardRole, visibility, privateBoardCreation, workspaceVisibleBoardCreation)
+                            .contains(permission));
+        }
+    }
+
+    static Stream<Arguments> combinations() {
+        List<Arguments> combinations = new ArrayList<>();
+        for (WorkspaceRole workspaceRole : withNone(WorkspaceRole.values())) {
+            for (BoardRole boardRole : withNone(BoardRole.values())) {
+                for (BoardVisibility visibility : BoardVisibility.values()) {
+                    for (BoardCreationSetting privateBoardCreation : BoardCreationSetting.values()) {
+                        for (BoardCreationSetting workspaceVisibleBoardCreation : BoardCreationSetting.values()) {
+                            combinations.add(Arguments.of(workspaceRole, boardRole, visibility, privateBoardCreation, workspaceVisibleBoardCreation));
+                        }
+                    }
+                }
+            }
+        }
+        return combinations.stream();
+    }
+
+    private static Set<BoardPermission> expected(WorkspaceRole workspaceRole, BoardRole boardRole, BoardVisibility visibility,
+                                                 BoardCreationSetting privateBoardCreation, BoardCreationSetting workspaceVisibleBoardCreation) {
+        Set<BoardPermission> permissions = EnumSet.noneOf(BoardPermission.class);
+        boolean workspaceAdmin = workspaceRole == WorkspaceRole.OWNER || workspaceRole == WorkspaceRole.ADMIN;
+
+        // canViewBoard: board members first, then workspace admins, then non-guests on workspace-visible boards
+        if (boardRole != null || workspaceAdmin
+                || (workspaceRole != null && workspaceRole != WorkspaceRole.GUEST && visibility == BoardVisibility.WORKSPACE)) {
+            permissions.add(BoardPermission.VIEW);
+        }
+        // canEditBoardContent: workspace admins, or board members other than observers
+        if (workspaceRole != null && (workspaceAdmin || (boardRole != null && boardRole != BoardRole.OBSERVER))) {
+            permissions.add(BoardPermission.EDIT_CONTENT);
+        }
+        // canEditBoard, canDeleteBoard and canManageBoardMembers: workspace admins or board admins
+        if (workspaceRole != null && (workspaceAdmin || boardRole == BoardRole.ADMIN)) {
+            permissions.add(BoardPermission.MANAGE);
+        }
+        // canJoinBoard: workspace admins, or non-guests on workspace-visible boards
+        if (workspaceAdmin || (workspaceRole != null && workspaceRole != WorkspaceRole.GUEST && visibility == BoardVisibility.WORKSPACE)) {
+            permissions.add(BoardPermission.JOIN);
+        }
+        // canLeaveBoard: board members
+        if (boardRole != null) {
+            permissions.add(BoardPermission.LEAVE);
+        }
+        // canChangeBoardVisibility: workspace admins, or board admins where the workspace lets members create that kind of board
+        if (workspaceRole != null && (workspaceAdmin
+                || (privateBoardCreation != BoardCreationSetting.ADMINS_ONLY && boardRole == BoardRole.ADMIN))) {
+            permissions.add(BoardPermission.SET_PRIVATE);
+        }
+        if (workspaceRole != null && (workspaceAdmin
+                || (workspaceVisibleBoardCreation != BoardCreationSetting.ADMINS_ONLY && boardRole == BoardRole.ADMIN))) {
+            permissions.add(BoardPermission.SET_WORKSPACE_VISIBLE);
+        }
+        return permissions;
+    }
+
+    @SafeVarargs
+    private static <T> List<T> withNone(T... values) {
+        List<T> withNone = new ArrayList<>(Arrays.asList(values));
+        withNone.add(null);
+        return withNone;
+    }
+}
@@ -0,0 +1,77 @@
+package com.boardly.security.service;
+
+import com.boardly.data.model.sql.authentication.User;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.crypto.SecretKey;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+// Per-request token validation cost: the old build-a-parser-per-call path against the cached parser and verified-token cache.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JWTFilterServiceBenchmark {
+    private static final String SECRET = "Wz9a8K6N4b8qX0gF3x9Z+9G8sK5R7EoKq8l0kT6C4Q=";
+
+    private JWTFilterService service;
+    private SecretKey secretKey;
+    private JwtParser sharedParser;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        service = new JWTFilterService();
+        ReflectionTestUtils.setField(service, "jwtSecret", SECRET);
+        ReflectionTestUtils.setField(service, "accessTokenExpirationTime", 900_000L);
+        ReflectionTestUtils.setField(service, "verifiedTokenCacheSize", 10_000L);
+        service.init();
+        secretKey = Keys.hmacShaKeyFor(SECRET.getBytes());
+        sharedParser = Jwts.parser()
+                .verifyWith(secretKey)
+                .build();
+
+        User user = new User();
+        ReflectionTestUtils.setField(user, "Id", UUID.randomUUID());
+        user.setUsername("benchmark");
+        token = service.generateToken(user);
+    }
+
+    @Benchmark
+    public UUID parserPerCall() {
+        Claims claims = Jwts.parser()
+                .verifyWith(secretKey)
+                .build()
+                .parseSignedClaims(token)
+                .getPayload();
+        return UUID.fromString(claims.getSubject());
+    }
+
+    @Benchmark
+    public UUID sharedParser() {
+        Claims claims = sharedParser.parseSignedClaims(token).getPayload();
+        return UUID.fromString(claims.getSubject());
+    }
+
+    @Benchmark
+    public Object verifiedTokenCacheHit() {
+        return service.validateToken(token);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(JWTFilterServiceBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,86 @@
+package com.boardly.service.broadcast;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.util.MimeTypeUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class RelayBroadcastFanoutTest {
+    private static final String CHANNEL = "boardly:broadcast";
+
+    private final InMemoryPubSubChannel pubSubChannel = new InMemoryPubSubChannel();
+    private final SimpMessagingTemplate messagingTemplate = mock(SimpMessagingTemplate.class);
+    private RelayBroadcastFanout fanout;
+
+    @BeforeEach
+    void setUp() {
+        when(messagingTemplate.getUserDestinationPrefix()).thenReturn("/user/");
+        fanout = new RelayBroadcastFanout(messagingTemplate, pubSubChannel, new ObjectMapper(), CHANNEL);
+    }
+
+    @Test
+    void deliversTopicMessagesWithTheirPayloadAndStateKey() {
+        byte[] body = "{\"type\":\"card_updated\"}".getBytes(StandardCharsets.UTF_8);
+
+        fanout.sendToTopic("/topic/kanban/board-1", new SerializedPayload(body, false, "card:1:title"));
+
+        Message<?> message = sent("/topic/kanban/board-1");
+        assertThat(message.getPayload()).isEqualTo(body);
+        assertThat(message.getHeaders().get(MessageHeaders.CONTENT_TYPE)).isEqualTo(MimeTypeUtils.APPLICATION_JSON);
+        assertThat(message.getHeaders().get(SerializedPayload.STATE_KEY_HEADER)).isEqualTo("card:1:title");
+    }
+
+    @Test
+    void deliversUserMessagesToTheUsersDestination() {
+        UUID userId = UUID.randomUUID();
+        byte[] body = "You were added to a board".getBytes(StandardCharsets.UTF_8);
+
+        fanout.sendToUser(userId, "/queue/notifications", new SerializedPayload(body, true));
+
+        Message<?> message = sent("/user/" + userId + "/queue/notifications");
+        assertThat(message.getPayload()).isEqualTo(body);
+        assertThat(message.getHeaders().get(MessageHeaders.CONTENT_TYPE)).isEqualTo(MimeTypeUtils.TEXT_PLAIN);
+        assertThat(message.getHeaders().get(SerializedPayload.STATE_KEY_HEADER)).isNull();
+    }
+
+    @Test
+    void everyNodeOnTheChannelDeliversToItsOwnSessions() {
+        SimpMessagingTemplate otherNode = mock(SimpMessagingTemplate.class);
+        new RelayBroadcastFanout(otherNode, pubSubChannel, new ObjectMapper(), CHANNEL);
+
+        fanout.sendToTopic("/topic/board/board-1", new SerializedPayload(new byte[]{'{', '}'}, false));
+
+        sent("/topic/board/board-1");
+        verify(otherNode).send(eq("/topic/board/board-1"), any(Message.class));
+    }
+
+    @Test
+    void dropsUnreadableRelayedMessages() {
+        pubSubChannel.publish(CHANNEL, "not a relayed message".getBytes(StandardCharsets.UTF_8));
+
+        verify(messagingTemplate, never()).send(anyString(), any(Message.class));
+    }
+
+    @SuppressWarnings("unchecked")
+    private Message<?> sent(String destination) {
+        ArgumentCaptor<Message<?>> message = ArgumentCaptor.forClass(Message.class);
+        verify(messagingTemplate).send(eq(destination), message.capture());
+        return message.getValue();
+    }
+}